@@ -18,6 +18,7 @@ package io.github.scordio.demo;
 // --8<-- [start:import]
 import io.github.scordio.junit.converters.Base64;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.FieldSource;
 // --8<-- [end:import]
 
@@ -40,4 +41,22 @@ static List<?> encoded = List.of("Pz8/", new byte[] { 80, 122, 56, 47 });
 // --8<-- [end:test]
 // @formatter:on
 
+	static class WithWhitespace {
+
+// @formatter:off
+// --8<-- [start:test-whitespace]
+
+@ParameterizedTest
+@CsvSource(textBlock = """
+		'Pz8/Pz8/
+		 Pz8/Pz8/'
+		""")
+void test(@Base64(ignoreWhitespace = true) byte[] bytes) {
+	assertThat(bytes).hasSize(12).containsOnly(63);
+}
+// --8<-- [end:test-whitespace]
+// @formatter:on
+
+	}
+
 }
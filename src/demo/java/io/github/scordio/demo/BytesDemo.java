@@ -18,9 +18,13 @@ package io.github.scordio.demo;
 // --8<-- [start:import]
 import io.github.scordio.junit.converters.Bytes;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 // --8<-- [end:import]
 
+import java.util.stream.Stream;
+
+import static io.github.scordio.junit.converters.Bytes.ByteOrder.LITTLE_ENDIAN;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class BytesDemo {
@@ -51,6 +55,40 @@ void test(@Bytes byte[] bytes) {
 	assertThat(bytes).containsExactly(0x12, 0x34, 0x56, 0x78);
 }
 // --8<-- [end:test-numbers]
+// @formatter:on
+
+	}
+
+	static class WithPrimitiveArrays {
+
+// @formatter:off
+// --8<-- [start:test-arrays]
+
+@ParameterizedTest
+@MethodSource("frames")
+void test(@Bytes(order = LITTLE_ENDIAN) byte[] bytes) {
+	assertThat(bytes).containsExactly(0x34, 0x12, 0x78, 0x56);
+}
+
+static Stream<short[]> frames() {
+	return Stream.of(new short[][] { { 0x1234, 0x5678 } });
+}
+// --8<-- [end:test-arrays]
+// @formatter:on
+
+	}
+
+	static class WithDelimitedNumbers {
+
+// @formatter:off
+// --8<-- [start:test-delimited-numbers]
+
+@ParameterizedTest
+@ValueSource(strings = "4660, 22136")
+void test(@Bytes(numberType = short.class) byte[] bytes) {
+	assertThat(bytes).containsExactly(0x12, 0x34, 0x56, 0x78);
+}
+// --8<-- [end:test-delimited-numbers]
 // @formatter:on
 
 	}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.demo;
+
+// --8<-- [start:import]
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Gzip;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+// --8<-- [end:import]
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressionDemo {
+
+// @formatter:off
+// --8<-- [start:test]
+
+@ParameterizedTest
+@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+void test(@Gzip @Base64 byte[] bytes) {
+	assertThat(bytes).asString().isEqualTo("Hello, compression!");
+}
+// --8<-- [end:test]
+// @formatter:on
+
+	static class WithComposedAnnotation {
+
+// @formatter:off
+// --8<-- [start:test-composed]
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Gzip
+@Base64
+@interface GzippedBase64 {
+}
+
+@ParameterizedTest
+@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+void test(@GzippedBase64 byte[] bytes) {
+	assertThat(bytes).asString().isEqualTo("Hello, compression!");
+}
+// --8<-- [end:test-composed]
+// @formatter:on
+
+	}
+
+}
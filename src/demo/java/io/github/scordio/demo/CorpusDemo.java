@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.demo;
+
+// --8<-- [start:import]
+import io.github.scordio.junit.converters.CorpusSource;
+import io.github.scordio.junit.converters.Gzip;
+import org.junit.jupiter.params.ParameterizedTest;
+// --8<-- [end:import]
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorpusDemo {
+
+// @formatter:off
+// --8<-- [start:test]
+
+@ParameterizedTest
+@CorpusSource(value = "corpus", glob = "**.bin")
+void test(ByteBuffer frame, Path path) {
+	assertThat(frame.remaining()).isEqualTo(path.toFile().length());
+}
+// --8<-- [end:test]
+
+// --8<-- [start:test-converted]
+
+@ParameterizedTest
+@CorpusSource(value = "corpus", glob = "*.gz")
+void testConverted(@Gzip byte[] bytes) {
+	assertThat(bytes).isNotEmpty();
+}
+// --8<-- [end:test-converted]
+// @formatter:on
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.demo;
+
+// --8<-- [start:import]
+import io.github.scordio.junit.converters.Base64File;
+import io.github.scordio.junit.converters.BytesFile;
+import io.github.scordio.junit.converters.HexFile;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+// --8<-- [end:import]
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilesDemo {
+
+// @formatter:off
+// --8<-- [start:hex]
+
+@ParameterizedTest
+@ValueSource(strings = { "files/hex.txt", "src/test/resources/files/hex.txt" })
+void hex(@HexFile byte[] bytes) {
+	assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+}
+// --8<-- [end:hex]
+
+// --8<-- [start:base64]
+
+@ParameterizedTest
+@ValueSource(strings = "files/base64.txt")
+void base64(@Base64File byte[] bytes) {
+	assertThat(bytes).containsExactly(63, 63, 63);
+}
+// --8<-- [end:base64]
+
+// --8<-- [start:bytes]
+
+@ParameterizedTest
+@ValueSource(strings = "files/bytes.bin")
+void bytes(@BytesFile byte[] bytes) {
+	assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+}
+// --8<-- [end:bytes]
+
+// --8<-- [start:bytes_buffer]
+
+@ParameterizedTest
+@ValueSource(strings = "files/bytes.bin")
+void bytes_buffer(@BytesFile ByteBuffer buffer) {
+	assertThat(buffer.isReadOnly()).isTrue();
+	assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+}
+// --8<-- [end:bytes_buffer]
+// @formatter:on
+
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 // --8<-- [end:import]
 
+import static io.github.scordio.junit.converters.Bytes.ByteOrder.LITTLE_ENDIAN;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class HexDemo {
@@ -36,4 +37,42 @@ void test(@Hex byte[] bytes) {
 // --8<-- [end:test]
 // @formatter:on
 
+	static class WithNumericTargets {
+
+// @formatter:off
+// --8<-- [start:test-numeric]
+
+@ParameterizedTest
+@ValueSource(strings = "3412CDAB")
+void test(@Hex(order = LITTLE_ENDIAN) short[] values) {
+	assertThat(values).containsExactly((short) 0x1234, (short) 0xABCD);
+}
+// --8<-- [end:test-numeric]
+// @formatter:on
+
+	}
+
+	static class WithTextLayouts {
+
+// @formatter:off
+// --8<-- [start:test-layouts]
+
+@ParameterizedTest
+@ValueSource(strings = { "0a:1b:2c", "0A-1B-2C", "0A 1B 2C" })
+void separated(@Hex(separators = ":- ") byte[] bytes) {
+	assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+}
+
+@ParameterizedTest
+@ValueSource(strings = """
+	00000000: 4865 6c6c 6f2c 2078 7864 210a            Hello, xxd!.
+	""")
+void dump(@Hex(format = Hex.Format.XXD) byte[] bytes) {
+	assertThat(bytes).asString().isEqualTo("Hello, xxd!\n");
+}
+// --8<-- [end:test-layouts]
+// @formatter:on
+
+	}
+
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.demo;
+
+// --8<-- [start:import]
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.function.Supplier;
+// --8<-- [end:import]
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LazyConversionDemo {
+
+// @formatter:off
+// --8<-- [start:test]
+
+@ParameterizedTest
+@CsvSource({ "true, 0A1B2C", "false, not hex" })
+void test(boolean enabled, @Hex Supplier<byte[]> bytes) {
+	assumeTrue(enabled);
+	assertThat(bytes.get()).containsExactly(0x0A, 0x1B, 0x2C);
+}
+// --8<-- [end:test]
+// @formatter:on
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.demo;
+
+// --8<-- [start:import]
+import io.github.scordio.junit.converters.Payload;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+// --8<-- [end:import]
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadDemo {
+
+// @formatter:off
+// --8<-- [start:test]
+
+@ParameterizedTest
+@ValueSource(strings = "size=64MiB, seed=42")
+void test(@Payload byte[] bytes) {
+	assertThat(bytes).hasSize(64 * 1024 * 1024);
+}
+// --8<-- [end:test]
+// @formatter:on
+
+	static class WithPattern {
+
+// @formatter:off
+// --8<-- [start:test-pattern]
+
+@ParameterizedTest
+@ValueSource(strings = "0xDEADBEEF * 1M")
+void test(@Payload byte[] bytes) {
+	assertThat(bytes).hasSize(4 * 1024 * 1024).startsWith(0xDE, 0xAD, 0xBE, 0xEF);
+}
+// --8<-- [end:test-pattern]
+// @formatter:on
+
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.demo;
+
+// --8<-- [start:import]
+import io.github.scordio.junit.converters.Base64Source;
+import io.github.scordio.junit.converters.HexSource;
+import org.junit.jupiter.params.ParameterizedTest;
+// --8<-- [end:import]
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourcesDemo {
+
+// @formatter:off
+// --8<-- [start:hex-source]
+
+@ParameterizedTest
+@HexSource(value = "vectors/aes-ecb-gfsbox-128.rsp",
+		fields = { "KEY", "PLAINTEXT", "CIPHERTEXT" }, section = "ENCRYPT")
+void hexSource(byte[] key, byte[] plaintext, byte[] ciphertext) throws GeneralSecurityException {
+	Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+	cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+	assertThat(cipher.doFinal(plaintext)).isEqualTo(ciphertext);
+}
+// --8<-- [end:hex-source]
+
+// --8<-- [start:base64-source]
+
+@ParameterizedTest
+@Base64Source("vectors/sha-256.txt")
+void base64Source(byte[] message, byte[] digest) throws GeneralSecurityException {
+	assertThat(MessageDigest.getInstance("SHA-256").digest(message)).isEqualTo(digest);
+}
+// --8<-- [end:base64-source]
+// @formatter:on
+
+}
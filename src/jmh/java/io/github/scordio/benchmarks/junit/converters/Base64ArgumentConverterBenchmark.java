@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import static io.github.scordio.junit.converters.Base64.Encoding.BASIC;
+import static io.github.scordio.junit.converters.Base64.Encoding.MIME;
+import static io.github.scordio.junit.converters.Base64.Encoding.URL;
+import static java.util.Locale.ROOT;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Base64.Encoding;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Base64ArgumentConverterBenchmark {
+
+	@Param({ "16", "1024", "65536", "1048576", "16777216" })
+	int size;
+
+	@Param
+	Encoding encoding;
+
+	String source;
+
+	ArgumentConverter converter;
+
+	ParameterContext context;
+
+	@Setup
+	public void setUp() {
+		Parameter parameter = Conversions.parameter(Base64ArgumentConverterBenchmark.class,
+				encoding.name().toLowerCase(ROOT));
+		source = encoder(encoding).encodeToString(Payloads.bytes(size));
+		converter = Conversions.converter(parameter);
+		context = Conversions.parameterContext(parameter);
+	}
+
+	@Benchmark
+	public Object convert() {
+		return converter.convert(source, context);
+	}
+
+	private static java.util.Base64.Encoder encoder(Encoding encoding) {
+		return switch (encoding) {
+			case BASIC -> java.util.Base64.getEncoder();
+			case URL -> java.util.Base64.getUrlEncoder();
+			case MIME -> java.util.Base64.getMimeEncoder();
+		};
+	}
+
+	static void basic(@SuppressWarnings("unused") @Base64(encoding = BASIC) byte[] bytes) {
+	}
+
+	static void url(@SuppressWarnings("unused") @Base64(encoding = URL) byte[] bytes) {
+	}
+
+	static void mime(@SuppressWarnings("unused") @Base64(encoding = MIME) byte[] bytes) {
+	}
+
+}
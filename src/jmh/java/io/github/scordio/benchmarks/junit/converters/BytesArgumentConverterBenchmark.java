@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import io.github.scordio.junit.converters.Bytes;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Parameter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BytesArgumentConverterBenchmark {
+
+	@Benchmark
+	public Object convert_numbers(Numbers state) {
+		return state.converter.convert(state.source, state.context);
+	}
+
+	@Benchmark
+	public Object convert_strings(Strings state) {
+		return state.converter.convert(state.source, state.context);
+	}
+
+	@Benchmark
+	public Object convert_arrays(PrimitiveArrays state) {
+		return state.converter.convert(state.source, state.context);
+	}
+
+	@Benchmark
+	public Object convert_delimited_numbers(DelimitedNumbers state) {
+		return state.converter.convert(state.source, state.context);
+	}
+
+	@State(Scope.Benchmark)
+	public static class Numbers {
+
+		@Param
+		NumberType type;
+
+		Object source;
+
+		ArgumentConverter converter;
+
+		ParameterContext context;
+
+		@Setup
+		public void setUp() {
+			Parameter parameter = Conversions.parameter(BytesArgumentConverterBenchmark.class, "target");
+			source = type.value();
+			converter = Conversions.converter(parameter);
+			context = Conversions.parameterContext(parameter);
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class Strings {
+
+		@Param({ "16", "1024", "65536", "1048576", "16777216" })
+		int size;
+
+		@Param({ "UTF-8", "US-ASCII" })
+		String charset;
+
+		String source;
+
+		ArgumentConverter converter;
+
+		ParameterContext context;
+
+		@Setup
+		public void setUp() {
+			String methodName = "UTF-8".equals(charset) ? "utf8" : "ascii";
+			Parameter parameter = Conversions.parameter(BytesArgumentConverterBenchmark.class, methodName);
+			source = Payloads.ascii(size);
+			converter = Conversions.converter(parameter);
+			context = Conversions.parameterContext(parameter);
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class PrimitiveArrays {
+
+		@Param({ "16", "4096", "65536" })
+		int length;
+
+		@Param({ "SHORT", "INTEGER", "LONG", "DOUBLE" })
+		NumberType type;
+
+		@Param({ "BIG_ENDIAN", "LITTLE_ENDIAN" })
+		Bytes.ByteOrder order;
+
+		Object source;
+
+		ArgumentConverter converter;
+
+		ParameterContext context;
+
+		@Setup
+		public void setUp() {
+			String methodName = order == Bytes.ByteOrder.BIG_ENDIAN ? "target" : "littleEndian";
+			Parameter parameter = Conversions.parameter(BytesArgumentConverterBenchmark.class, methodName);
+			source = type.array(length);
+			converter = Conversions.converter(parameter);
+			context = Conversions.parameterContext(parameter);
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class DelimitedNumbers {
+
+		@Param({ "1024", "65536" })
+		int size;
+
+		String source;
+
+		ArgumentConverter converter;
+
+		ParameterContext context;
+
+		@Setup
+		public void setUp() {
+			Parameter parameter = Conversions.parameter(BytesArgumentConverterBenchmark.class, "delimitedInts");
+			source = Payloads.commaSeparatedInts(size);
+			converter = Conversions.converter(parameter);
+			context = Conversions.parameterContext(parameter);
+		}
+
+	}
+
+	public enum NumberType {
+
+		BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE;
+
+		Object value() {
+			return switch (this) {
+				case BYTE -> Byte.valueOf((byte) 0x12);
+				case SHORT -> Short.valueOf((short) 0x1234);
+				case INTEGER -> Integer.valueOf(0x12345678);
+				case LONG -> Long.valueOf(0x123456780A1B2C3DL);
+				case FLOAT -> Float.valueOf((float) 0x12345678);
+				case DOUBLE -> Double.valueOf((double) 0x123456780A1B2C3DL);
+			};
+		}
+
+		Object array(int length) {
+			Random random = new Random(42);
+			return switch (this) {
+				case BYTE -> Payloads.bytes(length);
+				case SHORT -> {
+					short[] array = new short[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = (short) random.nextInt();
+					}
+					yield array;
+				}
+				case INTEGER -> random.ints(length).toArray();
+				case LONG -> random.longs(length).toArray();
+				case FLOAT -> {
+					float[] array = new float[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = random.nextFloat();
+					}
+					yield array;
+				}
+				case DOUBLE -> random.doubles(length).toArray();
+			};
+		}
+
+	}
+
+	static void target(@SuppressWarnings("unused") @Bytes byte[] bytes) {
+	}
+
+	static void littleEndian(@SuppressWarnings("unused") @Bytes(order = Bytes.ByteOrder.LITTLE_ENDIAN) byte[] bytes) {
+	}
+
+	static void delimitedInts(@SuppressWarnings("unused") @Bytes(numberType = int.class) byte[] bytes) {
+	}
+
+	static void utf8(@SuppressWarnings("unused") @Bytes(charset = "UTF-8") byte[] bytes) {
+	}
+
+	static void ascii(@SuppressWarnings("unused") @Bytes(charset = "US-ASCII") byte[] bytes) {
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first conversion in a fresh JVM, which includes the initialization of the
+ * classes on the conversion path that are not already loaded to bind the converter.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class ColdStartBenchmark {
+
+	String hex;
+
+	String base64;
+
+	ArgumentConverter hexConverter;
+
+	ParameterContext hexContext;
+
+	ArgumentConverter base64Converter;
+
+	ParameterContext base64Context;
+
+	@Setup
+	public void setUp() {
+		hex = Payloads.hex(16);
+		base64 = java.util.Base64.getEncoder().encodeToString(Payloads.bytes(16));
+		Parameter hexParameter = Conversions.parameter(ColdStartBenchmark.class, "hex");
+		hexConverter = Conversions.converter(hexParameter);
+		hexContext = Conversions.parameterContext(hexParameter);
+		Parameter base64Parameter = Conversions.parameter(ColdStartBenchmark.class, "base64");
+		base64Converter = Conversions.converter(base64Parameter);
+		base64Context = Conversions.parameterContext(base64Parameter);
+	}
+
+	@Benchmark
+	public Object hex_first_conversion() {
+		return hexConverter.convert(hex, hexContext);
+	}
+
+	@Benchmark
+	public Object base64_first_conversion() {
+		return base64Converter.convert(base64, base64Context);
+	}
+
+	static void hex(@SuppressWarnings("unused") @Hex byte[] bytes) {
+	}
+
+	static void base64(@SuppressWarnings("unused") @Base64 byte[] bytes) {
+	}
+
+}
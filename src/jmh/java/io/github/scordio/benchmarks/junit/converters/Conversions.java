@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.junit.jupiter.params.converter.ConvertWith;
+import org.junit.jupiter.params.support.AnnotationConsumerInitializer;
+import org.junit.jupiter.params.support.FieldContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Creates argument converters and their contexts the same way the Jupiter engine does, so
+ * that benchmarks measure the conversion only.
+ */
+final class Conversions {
+
+	private Conversions() {
+	}
+
+	static Parameter parameter(Class<?> declaringClass, String methodName) {
+		return Arrays.stream(declaringClass.getDeclaredMethods())
+			.filter(method -> method.getName().equals(methodName))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("Method " + methodName + " not found"))
+			.getParameters()[0];
+	}
+
+	static Field field(Class<?> declaringClass, String fieldName) {
+		try {
+			return declaringClass.getDeclaredField(fieldName);
+		}
+		catch (NoSuchFieldException e) {
+			throw new IllegalArgumentException("Field " + fieldName + " not found", e);
+		}
+	}
+
+	static ArgumentConverter converter(AnnotatedElement element) {
+		Class<? extends ArgumentConverter> converterClass = AnnotationSupport.findAnnotation(element, ConvertWith.class)
+			.map(ConvertWith::value)
+			.orElseThrow(() -> new IllegalArgumentException(element + " is not annotated with @ConvertWith"));
+		return AnnotationConsumerInitializer.initialize(element, ReflectionSupport.newInstance(converterClass));
+	}
+
+	static ParameterContext parameterContext(Parameter parameter) {
+		return new BenchmarkParameterContext(parameter);
+	}
+
+	static FieldContext fieldContext(Field field) {
+		return new BenchmarkFieldContext(field);
+	}
+
+	private record BenchmarkParameterContext(Parameter parameter) implements ParameterContext {
+
+		@Override
+		public Parameter getParameter() {
+			return parameter;
+		}
+
+		@Override
+		public int getIndex() {
+			return Arrays.asList(parameter.getDeclaringExecutable().getParameters()).indexOf(parameter);
+		}
+
+		@Override
+		public Optional<Object> getTarget() {
+			return Optional.empty();
+		}
+
+	}
+
+	private record BenchmarkFieldContext(Field field) implements FieldContext {
+
+		@Override
+		public Field getField() {
+			return field;
+		}
+
+		@Override
+		public int getParameterIndex() {
+			return 0;
+		}
+
+		@Override
+		public AnnotatedElement getAnnotatedElement() {
+			return field;
+		}
+
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import static io.github.scordio.junit.converters.Hex.Format.XXD;
+
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the decoding of separated hex digits and {@code xxd} dumps with cleaning them
+ * up with regular expressions before a plain conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HexTextBenchmark {
+
+	@Param({ "1024", "65536", "1048576" })
+	int size;
+
+	String separated;
+
+	String dump;
+
+	ArgumentConverter plainConverter;
+
+	ParameterContext plainContext;
+
+	ArgumentConverter separatedConverter;
+
+	ParameterContext separatedContext;
+
+	ArgumentConverter dumpConverter;
+
+	ParameterContext dumpContext;
+
+	@Setup
+	public void setUp() {
+		byte[] bytes = Payloads.bytes(size);
+		separated = colonSeparated(bytes);
+		dump = xxdDump(bytes);
+
+		Parameter plain = Conversions.parameter(HexTextBenchmark.class, "plain");
+		plainConverter = Conversions.converter(plain);
+		plainContext = Conversions.parameterContext(plain);
+
+		Parameter separated = Conversions.parameter(HexTextBenchmark.class, "separated");
+		separatedConverter = Conversions.converter(separated);
+		separatedContext = Conversions.parameterContext(separated);
+
+		Parameter dump = Conversions.parameter(HexTextBenchmark.class, "dump");
+		dumpConverter = Conversions.converter(dump);
+		dumpContext = Conversions.parameterContext(dump);
+	}
+
+	@Benchmark
+	public Object separated_replace_all() {
+		return plainConverter.convert(separated.replaceAll("[:\\s]", ""), plainContext);
+	}
+
+	@Benchmark
+	public Object separated_single_pass() {
+		return separatedConverter.convert(separated, separatedContext);
+	}
+
+	@Benchmark
+	public Object xxd_replace_all() {
+		String digits = dump.replaceAll("(?m)^[0-9a-f]+: ", "").replaceAll("(?m)  .*$", "").replaceAll("\\s", "");
+		return plainConverter.convert(digits, plainContext);
+	}
+
+	@Benchmark
+	public Object xxd_single_pass() {
+		return dumpConverter.convert(dump, dumpContext);
+	}
+
+	private static String colonSeparated(byte[] bytes) {
+		// colon-separated bytes, 16 per line
+		StringBuilder builder = new StringBuilder(bytes.length * 3);
+		for (int i = 0; i < bytes.length; i++) {
+			builder.append(String.format("%02x", bytes[i])).append(i % 16 == 15 ? '\n' : ':');
+		}
+		return builder.toString();
+	}
+
+	private static String xxdDump(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 5);
+		for (int offset = 0; offset < bytes.length; offset += 16) {
+			builder.append(String.format("%08x:", offset));
+			StringBuilder ascii = new StringBuilder(16);
+			for (int i = offset; i < offset + 16; i++) {
+				if (i % 2 == 0) {
+					builder.append(' ');
+				}
+				if (i < bytes.length) {
+					builder.append(String.format("%02x", bytes[i]));
+					ascii.append(bytes[i] >= 0x20 && bytes[i] < 0x7F ? (char) bytes[i] : '.');
+				}
+				else {
+					builder.append("  ");
+				}
+			}
+			builder.append("  ").append(ascii).append('\n');
+		}
+		return builder.toString();
+	}
+
+	static void plain(@SuppressWarnings("unused") @Hex byte[] bytes) {
+	}
+
+	static void separated(@SuppressWarnings("unused") @Hex(separators = ":", ignoreWhitespace = true) byte[] bytes) {
+	}
+
+	static void dump(@SuppressWarnings("unused") @Hex(format = XXD) byte[] bytes) {
+	}
+
+}
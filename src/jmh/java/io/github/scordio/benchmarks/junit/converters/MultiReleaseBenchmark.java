@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import io.github.scordio.junit.converters.Bytes;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Parameter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hot paths of the multi-release JAR with the Java 8 baseline, selected by
+ * disabling the multi-release support of the JDK in the baseline forks.
+ * <p>
+ * The JAR must precede the project classes in the class path, as configured by the
+ * {@code jmh} profile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class MultiReleaseBenchmark {
+
+	private static final String BASELINE = "-Djdk.util.jar.enableMultiRelease=false";
+
+	@Param({ "4096", "65536" })
+	int size;
+
+	@Param({ "BIG_ENDIAN", "LITTLE_ENDIAN" })
+	Bytes.ByteOrder order;
+
+	int[] ints;
+
+	byte[] bytes;
+
+	ArgumentConverter packConverter;
+
+	ParameterContext packContext;
+
+	ArgumentConverter unpackConverter;
+
+	ParameterContext unpackContext;
+
+	@Setup
+	public void setUp() {
+		boolean bigEndian = order == Bytes.ByteOrder.BIG_ENDIAN;
+		ints = new Random(42).ints(size / Integer.BYTES).toArray();
+		bytes = Payloads.bytes(size);
+		Parameter pack = Conversions.parameter(MultiReleaseBenchmark.class, bigEndian ? "pack" : "packLittleEndian");
+		packConverter = Conversions.converter(pack);
+		packContext = Conversions.parameterContext(pack);
+		Parameter unpack = Conversions.parameter(MultiReleaseBenchmark.class,
+				bigEndian ? "unpack" : "unpackLittleEndian");
+		unpackConverter = Conversions.converter(unpack);
+		unpackContext = Conversions.parameterContext(unpack);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = BASELINE)
+	public Object bytes_int_array_to_byte_array_baseline() {
+		return packConverter.convert(ints, packContext);
+	}
+
+	@Benchmark
+	@Fork(1)
+	public Object bytes_int_array_to_byte_array_versioned() {
+		return packConverter.convert(ints, packContext);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = BASELINE)
+	public Object bytes_byte_array_to_short_array_baseline() {
+		return unpackConverter.convert(bytes, unpackContext);
+	}
+
+	@Benchmark
+	@Fork(1)
+	public Object bytes_byte_array_to_short_array_versioned() {
+		return unpackConverter.convert(bytes, unpackContext);
+	}
+
+	static void pack(@SuppressWarnings("unused") @Bytes byte[] bytes) {
+	}
+
+	static void packLittleEndian(@SuppressWarnings("unused") @Bytes(order = Bytes.ByteOrder.LITTLE_ENDIAN) byte[] bytes) {
+	}
+
+	static void unpack(@SuppressWarnings("unused") @Bytes short[] shorts) {
+	}
+
+	static void unpackLittleEndian(
+			@SuppressWarnings("unused") @Bytes(order = Bytes.ByteOrder.LITTLE_ENDIAN) short[] shorts) {
+	}
+
+}
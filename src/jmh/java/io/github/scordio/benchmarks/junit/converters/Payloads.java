@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Random;
+
+/**
+ * Deterministic payloads of a given size in bytes.
+ */
+final class Payloads {
+
+	private static final long SEED = 42;
+
+	private Payloads() {
+	}
+
+	static byte[] bytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(SEED).nextBytes(bytes);
+		return bytes;
+	}
+
+	static String hex(int size) {
+		return HexFormat.of().formatHex(bytes(size));
+	}
+
+	static String ascii(int size) {
+		return new String(bytes(size), StandardCharsets.ISO_8859_1).chars()
+			.map(c -> 'a' + c % 26)
+			.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+			.toString();
+	}
+
+	static String commaSeparatedInts(int size) {
+		Random random = new Random(SEED);
+		StringBuilder builder = new StringBuilder(size + 16);
+		while (builder.length() < size) {
+			if (!builder.isEmpty()) {
+				builder.append(',');
+			}
+			builder.append(random.nextInt(1000));
+		}
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import io.github.scordio.junit.converters.SpringConversion;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.junit.jupiter.params.support.FieldContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpringArgumentConverterBenchmark {
+
+	@Param({ "16", "1024", "65536", "1048576", "16777216" })
+	int size;
+
+	String source;
+
+	ArgumentConverter parameterConverter;
+
+	ParameterContext parameterContext;
+
+	ArgumentConverter fieldConverter;
+
+	FieldContext fieldContext;
+
+	@SpringConversion
+	int[] field;
+
+	@Setup
+	public void setUp() {
+		source = Payloads.commaSeparatedInts(size);
+
+		Parameter parameter = Conversions.parameter(SpringArgumentConverterBenchmark.class, "target");
+		parameterConverter = Conversions.converter(parameter);
+		parameterContext = Conversions.parameterContext(parameter);
+
+		Field field = Conversions.field(SpringArgumentConverterBenchmark.class, "field");
+		fieldConverter = Conversions.converter(field);
+		fieldContext = Conversions.fieldContext(field);
+	}
+
+	@Benchmark
+	public Object convert_parameter() {
+		return parameterConverter.convert(source, parameterContext);
+	}
+
+	@Benchmark
+	public Object convert_field() {
+		return fieldConverter.convert(source, fieldContext);
+	}
+
+	static void target(@SuppressWarnings("unused") @SpringConversion int[] ints) {
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.benchmarks.junit.converters;
+
+import static io.github.scordio.junit.converters.Base64.Encoding.MIME;
+
+import io.github.scordio.junit.converters.Base64;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the decoding of Base64 wrapped over several lines with the JDK MIME decoder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WrappedBase64Benchmark {
+
+	@Param({ "1024", "65536", "1048576" })
+	int size;
+
+	String source;
+
+	ArgumentConverter mimeConverter;
+
+	ParameterContext mimeContext;
+
+	ArgumentConverter whitespaceConverter;
+
+	ParameterContext whitespaceContext;
+
+	@Setup
+	public void setUp() {
+		// lines of 76 characters separated by CRLF, as found in PEM-like fixtures
+		source = java.util.Base64.getMimeEncoder().encodeToString(Payloads.bytes(size));
+
+		Parameter mime = Conversions.parameter(WrappedBase64Benchmark.class, "mime");
+		mimeConverter = Conversions.converter(mime);
+		mimeContext = Conversions.parameterContext(mime);
+
+		Parameter whitespace = Conversions.parameter(WrappedBase64Benchmark.class, "whitespace");
+		whitespaceConverter = Conversions.converter(whitespace);
+		whitespaceContext = Conversions.parameterContext(whitespace);
+	}
+
+	@Benchmark
+	public byte[] jdk_mime_decoder() {
+		return java.util.Base64.getMimeDecoder().decode(source);
+	}
+
+	@Benchmark
+	public Object mime_encoding() {
+		return mimeConverter.convert(source, mimeContext);
+	}
+
+	@Benchmark
+	public Object ignore_whitespace() {
+		return whitespaceConverter.convert(source, whitespaceContext);
+	}
+
+	static void mime(@SuppressWarnings("unused") @Base64(encoding = MIME) byte[] bytes) {
+	}
+
+	static void whitespace(@SuppressWarnings("unused") @Base64(ignoreWhitespace = true) byte[] bytes) {
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.TestInstancePreDestroyCallback;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Closes the arenas opened by the conversions of the current thread, after the test
+ * method execution for parameters and when the test instance is destroyed for fields.
+ * <p>
+ * Registered by {@link ScopedArena}, only on the elements whose segments need it. The
+ * arenas opened while resolving the parameters of a test method are the ones registered
+ * after {@link #beforeEach}, while the ones opened while injecting fields precede it.
+ */
+final class ArenaExtension implements BeforeEachCallback, AfterEachCallback, TestInstancePreDestroyCallback {
+
+	private static final Namespace NAMESPACE = Namespace.create(ArenaExtension.class);
+
+	private static final ThreadLocal<Deque<AutoCloseable>> ARENAS = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * Register an arena to be closed by the extension.
+	 * @param arena the arena opened by the current thread
+	 * @param <T> the type of the arena
+	 * @return the supplied arena
+	 */
+	static <T extends AutoCloseable> T register(T arena) {
+		ARENAS.get().push(arena);
+		return arena;
+	}
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		context.getStore(NAMESPACE).put(ArenaExtension.class, ARENAS.get().size());
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) throws Exception {
+		Integer mark = context.getStore(NAMESPACE).remove(ArenaExtension.class, Integer.class);
+		close(mark != null ? mark : 0);
+	}
+
+	@Override
+	public void preDestroyTestInstance(ExtensionContext context) throws Exception {
+		close(0);
+	}
+
+	private static void close(int mark) throws Exception {
+		Deque<AutoCloseable> arenas = ARENAS.get();
+		while (arenas.size() > mark) {
+			arenas.pop().close();
+		}
+	}
+
+}
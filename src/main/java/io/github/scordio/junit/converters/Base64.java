@@ -26,9 +26,21 @@ import java.lang.annotation.Target;
 /**
  * {@code @Base64} is a {@link ConvertWith} composed annotation that decodes
  * Base64-encoded instances of type {@code byte[]} or {@link String} into {@code byte[]}
- * instances.
+ * or {@link java.nio.ByteBuffer} instances.
  * <p>
- * The {@link #encoding} attribute configures the desired encoding scheme.
+ * The {@link #encoding} attribute configures the desired encoding scheme, and the
+ * {@link #ignoreWhitespace} attribute lets it skip the whitespace of wrapped values. The
+ * {@link #direct} and {@link #readOnly} attributes configure the buffers produced for
+ * {@code ByteBuffer} targets.
+ * <p>
+ * On Java 22 and later, {@code java.lang.foreign.MemorySegment} targets are decoded
+ * straight into native memory, aligned as configured by the {@link #alignment} attribute.
+ * They are allocated in an automatic arena, unless the element is also annotated with
+ * {@link ScopedArena @ScopedArena}.
+ * <p>
+ * {@link java.io.InputStream} and {@link java.nio.channels.ReadableByteChannel} targets
+ * decode the input instances lazily, while they are read, as described by
+ * {@link java.util.Base64.Decoder#wrap(java.io.InputStream)}.
  */
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
@@ -45,6 +57,44 @@ public @interface Base64 {
 	 */
 	Encoding encoding() default Encoding.BASIC;
 
+	/**
+	 * Whether whitespace characters should be ignored, like the line breaks and the
+	 * indentation of values wrapped over several lines of a text block.
+	 * <p>
+	 * Defaults to {@code false}. The {@link Encoding#MIME} scheme always ignores them.
+	 * @return {@code true} to ignore spaces, tabs, line feeds, carriage returns and form
+	 * feeds
+	 */
+	boolean ignoreWhitespace() default false;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be allocated as direct buffers.
+	 * <p>
+	 * Defaults to {@code false}, allocating heap buffers. Ignored by {@code byte[]}
+	 * targets.
+	 * @return {@code true} to allocate direct buffers
+	 * @see java.nio.ByteBuffer#allocateDirect(int)
+	 */
+	boolean direct() default false;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be read-only.
+	 * <p>
+	 * Defaults to {@code false}. Ignored by {@code byte[]} targets.
+	 * @return {@code true} to produce read-only buffers
+	 * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+	 */
+	boolean readOnly() default false;
+
+	/**
+	 * The alignment in bytes of {@code java.lang.foreign.MemorySegment} targets, which
+	 * must be a power of two.
+	 * <p>
+	 * Defaults to {@code 1}. Ignored by the other targets.
+	 * @return the alignment to use
+	 */
+	long alignment() default 1;
+
 	/**
 	 * Enumeration of Base64 encoding schemes.
 	 *
@@ -15,49 +15,153 @@
  */
 package io.github.scordio.junit.converters;
 
-import io.github.scordio.junit.converters.Base64.Encoding;
 import org.jspecify.annotations.Nullable;
-import org.junit.jupiter.params.converter.AnnotationBasedArgumentConverter;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
 
-import java.util.Base64.Decoder;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
-class Base64ArgumentConverter extends AnnotationBasedArgumentConverter<Base64> {
+class Base64ArgumentConverter extends ConfiguredArgumentConverter<Base64, Base64ArgumentConverter.Configuration> {
 
 	@Override
-	protected Object convert(@Nullable Object source, Class<?> targetType, Base64 annotation) {
+	public void accept(Base64 annotation) {
+		configure(new Configuration(Base64Decoder.of(annotation.encoding(), annotation.ignoreWhitespace()),
+				ByteBufferFactory.of(annotation.direct(), annotation.readOnly()),
+				SegmentFactory.of(annotation.alignment())));
+	}
+
+	@Override
+	protected Configuration compose(Configuration configuration, AnnotatedElement element) {
+		Inflation inflation = Inflation.find(element);
+		Configuration scoped = configuration.withSegments(configuration.segments.within(element));
+		return inflation != null ? scoped.withInflation(inflation) : scoped;
+	}
+
+	@Override
+	protected Object convert(@Nullable Object source, Class<?> targetType, Configuration configuration) {
 		Objects.requireNonNull(source, "'null' is not supported");
 
-		if (targetType != byte[].class) {
-			throw new ArgumentConversionException(
-					String.format("Target type %s is not supported", targetType.getTypeName()));
+		Base64Decoder decoder = configuration.decoder;
+		Inflation inflation = configuration.inflation;
+		if (inflation != null) {
+			return inflation.convert(decodingStream(source, decoder), targetType, configuration.buffers);
 		}
 
-		Decoder decoder = getDecoder(annotation.encoding());
+		boolean cached = source instanceof String && PayloadCache.isEnabled();
 
+		if (targetType == byte[].class) {
+			return cached ? decodeShared((String) source, decoder).clone() : toByteArray(source, decoder);
+		}
+		if (targetType == ByteBuffer.class) {
+			return cached ? configuration.buffers.wrapShared(decodeShared((String) source, decoder))
+					: configuration.buffers.wrap(toByteBuffer(source, decoder));
+		}
+		if (SegmentFactory.isSegment(targetType)) {
+			return cached ? configuration.segments.wrap(decodeShared((String) source, decoder))
+					: toSegment(source, decoder, configuration.segments);
+		}
+		if (targetType == InputStream.class) {
+			return decodingStream(source, decoder);
+		}
+		if (targetType == ReadableByteChannel.class) {
+			return Channels.newChannel(decodingStream(source, decoder));
+		}
+
+		throw new ArgumentConversionException(
+				String.format("Target type %s is not supported", targetType.getTypeName()));
+	}
+
+	private static byte[] toByteArray(Object source, Base64Decoder decoder) {
 		if (source instanceof byte[]) {
 			return decoder.decode((byte[]) source);
 		}
 		if (source instanceof String) {
 			return decoder.decode((String) source);
 		}
+		throw unsupportedSource(source);
+	}
 
-		throw new ArgumentConversionException(
+	private static ByteBuffer toByteBuffer(Object source, Base64Decoder decoder) {
+		// unlike decode(byte[]), the result is not trimmed into an exact-size array
+		return decoder.decode(toBuffer(source));
+	}
+
+	private static Object toSegment(Object source, Base64Decoder decoder, SegmentFactory segments) {
+		ByteBuffer input = toBuffer(source);
+		// sized for unpadded input, the bytes are decoded straight into the segment
+		ByteBuffer buffer = segments.allocate((int) (input.remaining() * 3L / 4));
+		return segments.flip(decoder.decode(input, buffer));
+	}
+
+	private static ByteBuffer toBuffer(Object source) {
+		if (source instanceof byte[]) {
+			return ByteBuffer.wrap((byte[]) source);
+		}
+		if (source instanceof String) {
+			return ByteBuffer.wrap(((String) source).getBytes(StandardCharsets.ISO_8859_1));
+		}
+		throw unsupportedSource(source);
+	}
+
+	static InputStream decodingStream(Object source, Base64Decoder decoder) {
+		return decoder.wrap(toInputStream(source));
+	}
+
+	private static byte[] decodeShared(String source, Base64Decoder decoder) {
+		return PayloadCache.getInstance().get(Base64ArgumentConverter.class, decoder, source, decoder::decode);
+	}
+
+	private static InputStream toInputStream(Object source) {
+		if (source instanceof byte[]) {
+			return new ByteArrayInputStream((byte[]) source);
+		}
+		if (source instanceof String) {
+			return new StringInputStream((String) source);
+		}
+		throw unsupportedSource(source);
+	}
+
+	private static ArgumentConversionException unsupportedSource(Object source) {
+		return new ArgumentConversionException(
 				String.format("Source type %s is not supported", source.getClass().getTypeName()));
 	}
 
-	private static Decoder getDecoder(Encoding encoding) {
-		switch (encoding) {
-			case BASIC:
-				return java.util.Base64.getDecoder();
-			case URL:
-				return java.util.Base64.getUrlDecoder();
-			case MIME:
-				return java.util.Base64.getMimeDecoder();
-			default:
-				throw new IllegalArgumentException("Unsupported encoding " + encoding);
+	static final class Configuration {
+
+		private final Base64Decoder decoder;
+
+		private final ByteBufferFactory buffers;
+
+		private final SegmentFactory segments;
+
+		private final @Nullable Inflation inflation;
+
+		private Configuration(Base64Decoder decoder, ByteBufferFactory buffers, SegmentFactory segments) {
+			this(decoder, buffers, segments, null);
+		}
+
+		private Configuration(Base64Decoder decoder, ByteBufferFactory buffers, SegmentFactory segments,
+				@Nullable Inflation inflation) {
+			this.decoder = decoder;
+			this.buffers = buffers;
+			this.segments = segments;
+			this.inflation = inflation;
+		}
+
+		private Configuration withInflation(Inflation inflation) {
+			return new Configuration(decoder, buffers, segments, inflation);
 		}
+
+		private Configuration withSegments(SegmentFactory segments) {
+			return segments != this.segments ? new Configuration(decoder, buffers, segments, inflation) : this;
+		}
+
 	}
 
 }
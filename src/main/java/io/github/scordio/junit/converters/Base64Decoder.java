@@ -0,0 +1,452 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import io.github.scordio.junit.converters.Base64.Encoding;
+import org.jspecify.annotations.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64.Decoder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base64 decoder supporting the {@link Encoding} schemes, optionally ignoring whitespace.
+ * <p>
+ * Strict decoding is delegated to the JDK decoders, in parallel chunks for large sources.
+ * The MIME scheme and the whitespace-tolerant mode run a table-driven decoder that skips
+ * the ignored characters in the same pass that decodes the others, mirroring the error
+ * messages of the JDK decoders.
+ */
+final class Base64Decoder {
+
+	private static final int INVALID = -1;
+
+	private static final int SKIP = -2;
+
+	private static final int PADDING = -3;
+
+	private static final String BASIC_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+	private static final String URL_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+	private static final Map<Encoding, Base64Decoder> DECODERS = new EnumMap<>(Encoding.class);
+
+	private static final Map<Encoding, Base64Decoder> WHITESPACE_TOLERANT_DECODERS = new EnumMap<>(Encoding.class);
+
+	static {
+		for (Encoding encoding : Encoding.values()) {
+			DECODERS.put(encoding, new Base64Decoder(encoding, false));
+			WHITESPACE_TOLERANT_DECODERS.put(encoding, new Base64Decoder(encoding, true));
+		}
+	}
+
+	private final Decoder decoder;
+
+	private final boolean strict;
+
+	private final boolean ignoreWhitespace;
+
+	private final boolean mime;
+
+	private final byte[] table = new byte[256];
+
+	// the values of the alphabet characters shifted to their position in a unit of four
+	// characters, negative otherwise, so that a single OR combines and validates a unit
+	private final int[] values18 = new int[256];
+
+	private final int[] values12 = new int[256];
+
+	private final int[] values6 = new int[256];
+
+	private final int[] values0 = new int[256];
+
+	private Base64Decoder(Encoding encoding, boolean ignoreWhitespace) {
+		this.decoder = getDecoder(encoding);
+		this.mime = encoding == Encoding.MIME;
+		this.ignoreWhitespace = ignoreWhitespace && !mime;
+		this.strict = !mime && !ignoreWhitespace;
+
+		// MIME ignores every character outside the alphabet, line separators included
+		Arrays.fill(table, (byte) (mime ? SKIP : INVALID));
+		if (this.ignoreWhitespace) {
+			for (char c : new char[] { ' ', '\t', '\n', '\r', '\f' }) {
+				table[c] = SKIP;
+			}
+		}
+		String alphabet = encoding == Encoding.URL ? URL_ALPHABET : BASIC_ALPHABET;
+		Arrays.fill(values18, INVALID);
+		Arrays.fill(values12, INVALID);
+		Arrays.fill(values6, INVALID);
+		Arrays.fill(values0, INVALID);
+		for (int i = 0; i < alphabet.length(); i++) {
+			char c = alphabet.charAt(i);
+			table[c] = (byte) i;
+			values18[c] = i << 18;
+			values12[c] = i << 12;
+			values6[c] = i << 6;
+			values0[c] = i;
+		}
+		table['='] = PADDING;
+	}
+
+	static Base64Decoder of(Encoding encoding, boolean ignoreWhitespace) {
+		// shared instances, usable as keys of the payload cache
+		return Objects.requireNonNull((ignoreWhitespace ? WHITESPACE_TOLERANT_DECODERS : DECODERS).get(encoding));
+	}
+
+	byte[] decode(String source) {
+		// like the JDK decoders, characters outside ISO-8859-1 are decoded as '?'
+		return decode(source.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	byte[] decode(byte[] source) {
+		if (strict) {
+			byte[] bytes = ParallelDecoding.isApplicable(source.length) ? decodeInParallel(source) : null;
+			return bytes != null ? bytes : decoder.decode(source);
+		}
+		byte[] bytes = new byte[getMaxDecodedLength(source.length)];
+		int length = decode(source, 0, source.length, bytes);
+		return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+	}
+
+	/**
+	 * Decode the supplied buffer, from its position to its limit.
+	 * <p>
+	 * Buffers without an accessible array, like memory-mapped files, are read in place
+	 * rather than copied to the heap first.
+	 * @param source the Base64 characters
+	 * @return a buffer wrapping the decoded bytes, not trimmed into an exact-size array
+	 */
+	ByteBuffer decode(ByteBuffer source) {
+		if (strict && source.hasArray()) {
+			if (ParallelDecoding.isApplicable(source.remaining()) && source.arrayOffset() == 0 && source.position() == 0
+					&& source.limit() == source.array().length) {
+				byte[] bytes = decodeInParallel(source.array());
+				if (bytes != null) {
+					source.position(source.limit());
+					return ByteBuffer.wrap(bytes);
+				}
+			}
+			return decoder.decode(source);
+		}
+		byte[] bytes = new byte[getMaxDecodedLength(source.remaining())];
+		if (!source.hasArray()) {
+			ByteBuffer target = decode(source, ByteBuffer.wrap(bytes));
+			target.flip();
+			return target;
+		}
+		int from = source.arrayOffset() + source.position();
+		int length = decode(source.array(), from, from + source.remaining(), bytes);
+		source.position(source.limit());
+		return ByteBuffer.wrap(bytes, 0, length);
+	}
+
+	/**
+	 * Decode the supplied buffer, from its position to its limit, into the target buffer,
+	 * reading and writing both in place.
+	 * @param source the Base64 characters
+	 * @param target the buffer receiving the decoded bytes from its position, with room
+	 * for three quarters of the source
+	 * @return the target buffer, positioned after the decoded bytes
+	 */
+	ByteBuffer decode(ByteBuffer source, ByteBuffer target) {
+		int length = decode(source, source.position(), source.limit(), target, target.position());
+		source.position(source.limit());
+		target.position(target.position() + length);
+		return target;
+	}
+
+	/**
+	 * Wrap the supplied stream of Base64 characters into a stream decoding them lazily.
+	 * @param source the Base64 characters
+	 * @return the decoding stream
+	 */
+	InputStream wrap(InputStream source) {
+		return decoder.wrap(ignoreWhitespace ? new WhitespaceSkippingInputStream(source, table) : source);
+	}
+
+	/**
+	 * Decode the supplied strict Base64 characters in parallel chunks of whole quanta,
+	 * leaving the last quantum and its padding to the JDK decoder.
+	 * @param source the Base64 characters
+	 * @return the decoded bytes, or {@code null} if the source is invalid
+	 */
+	private byte @Nullable [] decodeInParallel(byte[] source) {
+		int units = (source.length - 1) / 4;
+		byte[] tail;
+		try {
+			tail = decoder.decode(Arrays.copyOfRange(source, units * 4, source.length));
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+
+		byte[] bytes = new byte[units * 3 + tail.length];
+		System.arraycopy(tail, 0, bytes, units * 3, tail.length);
+		boolean valid = ParallelDecoding.decode(units, (from, to) -> {
+			for (int i = from * 4, j = from * 3; i < to * 4; i += 4, j += 3) {
+				int unit = values18[source[i] & 0xFF] | values12[source[i + 1] & 0xFF] | values6[source[i + 2] & 0xFF]
+						| values0[source[i + 3] & 0xFF];
+				if (unit < 0) {
+					return false;
+				}
+				bytes[j] = (byte) (unit >> 16);
+				bytes[j + 1] = (byte) (unit >> 8);
+				bytes[j + 2] = (byte) unit;
+			}
+			return true;
+		});
+		return valid ? bytes : null;
+	}
+
+	private int decode(byte[] source, int from, int to, byte[] target) {
+		byte[] table = this.table;
+		int[] values18 = this.values18;
+		int[] values12 = this.values12;
+		int[] values6 = this.values6;
+		int[] values0 = this.values0;
+		int bits = 0;
+		int shift = 18;
+		int i = from;
+		int j = 0;
+
+		while (i < to) {
+			// fast path: whole units of four characters, as found between line breaks
+			while (shift == 18 && i + 4 <= to) {
+				int unit = values18[source[i] & 0xFF] | values12[source[i + 1] & 0xFF] | values6[source[i + 2] & 0xFF]
+						| values0[source[i + 3] & 0xFF];
+				if (unit < 0) {
+					break;
+				}
+				target[j] = (byte) (unit >> 16);
+				target[j + 1] = (byte) (unit >> 8);
+				target[j + 2] = (byte) unit;
+				i += 4;
+				j += 3;
+			}
+			if (i == to) {
+				break;
+			}
+
+			byte b = source[i++];
+			int value = table[b & 0xFF];
+			if (value >= 0) {
+				bits |= value << shift;
+				shift -= 6;
+				if (shift < 0) {
+					target[j++] = (byte) (bits >> 16);
+					target[j++] = (byte) (bits >> 8);
+					target[j++] = (byte) bits;
+					bits = 0;
+					shift = 18;
+				}
+			}
+			else if (value == PADDING) {
+				// the second padding character of "xx==" must follow the first one
+				if ((shift == 6 && (i == to || source[i++] != '=')) || shift == 18) {
+					throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+				}
+				break;
+			}
+			else if (value == INVALID) {
+				throw new IllegalArgumentException("Illegal base64 character " + Integer.toString(b, 16));
+			}
+		}
+
+		if (shift == 6) {
+			target[j++] = (byte) (bits >> 16);
+		}
+		else if (shift == 0) {
+			target[j++] = (byte) (bits >> 16);
+			target[j++] = (byte) (bits >> 8);
+		}
+		else if (shift == 12) {
+			throw new IllegalArgumentException("Last unit does not have enough valid bits");
+		}
+
+		// only the ignored characters can follow the padding
+		for (; i < to; i++) {
+			int value = table[source[i] & 0xFF];
+			if (value != SKIP && !(mime && value == PADDING)) {
+				throw new IllegalArgumentException("Input byte array has incorrect ending byte at " + (i - from));
+			}
+		}
+
+		return j;
+	}
+
+	// the same decoding as above, reading and writing the buffers in place: sharing a
+	// single implementation through ByteBuffer.wrap slows down the decoding of arrays
+	private int decode(ByteBuffer source, int from, int to, ByteBuffer target, int offset) {
+		byte[] table = this.table;
+		int[] values18 = this.values18;
+		int[] values12 = this.values12;
+		int[] values6 = this.values6;
+		int[] values0 = this.values0;
+		int bits = 0;
+		int shift = 18;
+		int i = from;
+		int j = offset;
+
+		while (i < to) {
+			// fast path: whole units of four characters, as found between line breaks
+			while (shift == 18 && i + 4 <= to) {
+				int unit = values18[source.get(i) & 0xFF] | values12[source.get(i + 1) & 0xFF]
+						| values6[source.get(i + 2) & 0xFF] | values0[source.get(i + 3) & 0xFF];
+				if (unit < 0) {
+					break;
+				}
+				target.put(j, (byte) (unit >> 16));
+				target.put(j + 1, (byte) (unit >> 8));
+				target.put(j + 2, (byte) unit);
+				i += 4;
+				j += 3;
+			}
+			if (i == to) {
+				break;
+			}
+
+			byte b = source.get(i++);
+			int value = table[b & 0xFF];
+			if (value >= 0) {
+				bits |= value << shift;
+				shift -= 6;
+				if (shift < 0) {
+					target.put(j++, (byte) (bits >> 16));
+					target.put(j++, (byte) (bits >> 8));
+					target.put(j++, (byte) bits);
+					bits = 0;
+					shift = 18;
+				}
+			}
+			else if (value == PADDING) {
+				// the second padding character of "xx==" must follow the first one
+				if ((shift == 6 && (i == to || source.get(i++) != '=')) || shift == 18) {
+					throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+				}
+				break;
+			}
+			else if (value == INVALID) {
+				throw new IllegalArgumentException("Illegal base64 character " + Integer.toString(b, 16));
+			}
+		}
+
+		if (shift == 6) {
+			target.put(j++, (byte) (bits >> 16));
+		}
+		else if (shift == 0) {
+			target.put(j++, (byte) (bits >> 16));
+			target.put(j++, (byte) (bits >> 8));
+		}
+		else if (shift == 12) {
+			throw new IllegalArgumentException("Last unit does not have enough valid bits");
+		}
+
+		// only the ignored characters can follow the padding
+		for (; i < to; i++) {
+			int value = table[source.get(i) & 0xFF];
+			if (value != SKIP && !(mime && value == PADDING)) {
+				throw new IllegalArgumentException("Input byte array has incorrect ending byte at " + (i - from));
+			}
+		}
+
+		return j - offset;
+	}
+
+	private static int getMaxDecodedLength(int length) {
+		return (int) (length * 3L / 4);
+	}
+
+	private static Decoder getDecoder(Encoding encoding) {
+		switch (encoding) {
+			case BASIC:
+				return java.util.Base64.getDecoder();
+			case URL:
+				return java.util.Base64.getUrlDecoder();
+			case MIME:
+				return java.util.Base64.getMimeDecoder();
+			default:
+				throw new IllegalArgumentException("Unsupported encoding " + encoding);
+		}
+	}
+
+	/**
+	 * Stream dropping the whitespace characters of the wrapped stream.
+	 */
+	private static final class WhitespaceSkippingInputStream extends FilterInputStream {
+
+		private final byte[] table;
+
+		private WhitespaceSkippingInputStream(InputStream in, byte[] table) {
+			super(in);
+			this.table = table;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b;
+			do {
+				b = in.read();
+			}
+			while (b != -1 && table[b] == SKIP);
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read;
+			int kept;
+			do {
+				read = in.read(b, off, len);
+				if (read <= 0) {
+					return read;
+				}
+				kept = 0;
+				for (int i = off; i < off + read; i++) {
+					if (table[b[i] & 0xFF] != SKIP) {
+						b[off + kept++] = b[i];
+					}
+				}
+			}
+			while (kept == 0);
+			return kept;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			// the skipped bytes must be counted after the whitespace is removed
+			long skipped = 0;
+			while (skipped < n && read() != -1) {
+				skipped++;
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
+}
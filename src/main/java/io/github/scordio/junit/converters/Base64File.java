@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import io.github.scordio.junit.converters.Base64.Encoding;
+import org.junit.jupiter.params.converter.ConvertWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Base64File} is a {@link ConvertWith} composed annotation that decodes the
+ * Base64-encoded content of a classpath resource or file into {@code byte[]} instances.
+ * <p>
+ * The input instances are either {@link java.nio.file.Path} instances or {@link String}
+ * locations, resolved first as classpath resources and then as file paths. Files are
+ * memory-mapped and decoded without an intermediate {@code String}.
+ * <p>
+ * The {@link #encoding} attribute configures the desired encoding scheme. Trailing
+ * whitespace, like a final line terminator, is ignored.
+ *
+ * @see Base64
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConvertWith(Base64FileArgumentConverter.class)
+@SuppressWarnings("exports")
+public @interface Base64File {
+
+	/**
+	 * The encoding scheme the converter should use.
+	 * <p>
+	 * Defaults to {@link Encoding#BASIC}.
+	 * @return the encoding scheme to use
+	 */
+	Encoding encoding() default Encoding.BASIC;
+
+}
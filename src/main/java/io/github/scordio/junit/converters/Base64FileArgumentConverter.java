@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+class Base64FileArgumentConverter extends ConfiguredArgumentConverter<Base64File, Base64Decoder> {
+
+	@Override
+	public void accept(Base64File annotation) {
+		configure(Base64Decoder.of(annotation.encoding(), false));
+	}
+
+	@Override
+	protected Object convert(@Nullable Object source, Class<?> targetType, Base64Decoder decoder) {
+		Objects.requireNonNull(source, "'null' is not supported");
+
+		if (targetType != byte[].class) {
+			throw new ArgumentConversionException(
+					String.format("Target type %s is not supported", targetType.getTypeName()));
+		}
+
+		return FileContents.read(source,
+				content -> toByteArray(decoder.decode(FileContents.trimTrailingWhitespace(content))));
+	}
+
+	private static byte[] toByteArray(ByteBuffer decoded) {
+		// the decoder wraps a destination array sized for the worst case, so the exact
+		// result usually needs no further copy
+		byte[] array = decoded.array();
+		int from = decoded.arrayOffset() + decoded.position();
+		return from == 0 && decoded.remaining() == array.length ? array
+				: Arrays.copyOfRange(array, from, from + decoded.remaining());
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Creates the {@link ByteBuffer} instances handed to {@code ByteBuffer} targets, honoring
+ * the requested allocation and access mode.
+ */
+final class ByteBufferFactory {
+
+	private static final ByteBufferFactory[] FACTORIES = { //
+			new ByteBufferFactory(false, false), new ByteBufferFactory(false, true), //
+			new ByteBufferFactory(true, false), new ByteBufferFactory(true, true) };
+
+	private final boolean direct;
+
+	private final boolean readOnly;
+
+	private ByteBufferFactory(boolean direct, boolean readOnly) {
+		this.direct = direct;
+		this.readOnly = readOnly;
+	}
+
+	static ByteBufferFactory of(boolean direct, boolean readOnly) {
+		return FACTORIES[(direct ? 2 : 0) + (readOnly ? 1 : 0)];
+	}
+
+	/**
+	 * Allocate an empty buffer to be written and then passed to {@link #flip}.
+	 * @param capacity the capacity of the buffer
+	 * @return a writable heap or direct buffer
+	 */
+	ByteBuffer allocate(int capacity) {
+		return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * Flip a buffer obtained from {@link #allocate} after writing it.
+	 * @param buffer the written buffer
+	 * @return the buffer ready to be read
+	 */
+	ByteBuffer flip(ByteBuffer buffer) {
+		buffer.flip();
+		return view(buffer);
+	}
+
+	/**
+	 * Expose the supplied bytes as a buffer. Heap buffers wrap the array without copying
+	 * it.
+	 * @param bytes the bytes to expose
+	 * @return the buffer ready to be read
+	 */
+	ByteBuffer wrap(byte[] bytes) {
+		return direct ? flip(ByteBuffer.allocateDirect(bytes.length).put(bytes)) : view(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Expose the readable content of the supplied buffer, copying it only when the
+	 * requested allocation differs or when a read-only buffer must become writable.
+	 * @param buffer the buffer ready to be read
+	 * @return the buffer ready to be read
+	 */
+	ByteBuffer wrap(ByteBuffer buffer) {
+		return buffer.isDirect() == direct && (readOnly || !buffer.isReadOnly()) ? view(buffer)
+				: flip(allocate(buffer.remaining()).put(buffer));
+	}
+
+	/**
+	 * Expose the supplied shared bytes as a buffer, copying them unless a read-only heap
+	 * buffer is requested.
+	 * @param bytes the shared bytes to expose, never modified
+	 * @return the buffer ready to be read
+	 */
+	ByteBuffer wrapShared(byte[] bytes) {
+		return direct || readOnly ? wrap(bytes) : ByteBuffer.wrap(bytes.clone());
+	}
+
+	private ByteBuffer view(ByteBuffer buffer) {
+		// read-only views do not inherit the byte order on Java 8
+		return readOnly ? buffer.asReadOnlyBuffer().order(buffer.order()) : buffer;
+	}
+
+}
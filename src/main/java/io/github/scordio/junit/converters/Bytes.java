@@ -25,15 +25,39 @@ import java.lang.annotation.Target;
 
 /**
  * {@code @Bytes} is a {@link ConvertWith} composed annotation that converts
- * {@link String} or number instances into {@code byte[]} instances.
+ * {@link String}, number or primitive array instances into {@code byte[]} or
+ * {@link java.nio.ByteBuffer} instances.
  * <p>
  * When converting strings, the input instance is encoded into a sequence of bytes. The
  * {@link #charset} attribute configures the charset to use for conversion. If not
  * specified, the JVM default charset is used.
  * <p>
  * When converting numbers, the input instance is converted into a sequence of bytes using
- * its binary representation. The {@link #order} attribute configures the byte order to
- * use when converting multibyte values.
+ * its binary representation. Arrays of {@code short}, {@code int}, {@code long},
+ * {@code float} and {@code double} values are converted into the concatenation of the
+ * binary representations of their elements. The {@link #order} attribute configures the
+ * byte order to use when converting multibyte values, and it is also set as the order of
+ * the {@code ByteBuffer} targets.
+ * <p>
+ * When the {@link #numberType} attribute is set, strings are instead parsed as sequences
+ * of numbers separated by the {@link #delimiter}, like {@code "1,2,3"}, and converted
+ * like arrays of that type.
+ * <p>
+ * Numeric targets of type {@code int}, {@code long}, {@link java.math.BigInteger},
+ * {@code short[]}, {@code int[]}, {@code long[]}, {@code float[]} and {@code double[]}
+ * reverse the conversion, reading {@code byte[]} or {@code ByteBuffer} instances as the
+ * binary representation of the target, using the byte order configured by the
+ * {@link #order} attribute. Scalar targets require exactly as many bytes as their size,
+ * array targets a multiple of their element size, and {@code BigInteger} targets are read
+ * as an unsigned magnitude.
+ * <p>
+ * The {@link #direct} and {@link #readOnly} attributes configure the buffers produced for
+ * {@code ByteBuffer} targets.
+ * <p>
+ * On Java 22 and later, {@code java.lang.foreign.MemorySegment} targets receive the same
+ * bytes as {@code ByteBuffer} targets, written straight into native memory, aligned as
+ * configured by the {@link #alignment} attribute. They are allocated in an automatic
+ * arena, unless the element is also annotated with {@link ScopedArena @ScopedArena}.
  */
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
@@ -52,13 +76,63 @@ public @interface Bytes {
 	String charset() default "";
 
 	/**
-	 * The byte order the converter should use when converting numbers.
+	 * The byte order the converter should use when converting numbers or numeric targets.
 	 * <p>
 	 * Defaults to {@link ByteOrder#BIG_ENDIAN}.
 	 * @return the byte order to use
 	 */
 	ByteOrder order() default ByteOrder.BIG_ENDIAN;
 
+	/**
+	 * The type of the numbers the converter should parse from delimited strings, one of
+	 * {@code byte.class}, {@code short.class}, {@code int.class}, {@code long.class},
+	 * {@code float.class} or {@code double.class}.
+	 * <p>
+	 * Each number is parsed in decimal notation, ignoring the surrounding whitespace,
+	 * like {@link Integer#parseInt(String)} does for {@code int.class}.
+	 * <p>
+	 * Defaults to {@code void.class}, encoding strings with the {@link #charset} instead.
+	 * @return the type of the numbers to parse
+	 */
+	Class<?> numberType() default void.class;
+
+	/**
+	 * The delimiter separating the numbers in the strings parsed according to the
+	 * {@link #numberType}.
+	 * <p>
+	 * Defaults to {@code ","}.
+	 * @return the delimiter to use
+	 */
+	String delimiter() default ",";
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be allocated as direct buffers.
+	 * <p>
+	 * Defaults to {@code false}, allocating heap buffers. Ignored by {@code byte[]}
+	 * targets.
+	 * @return {@code true} to allocate direct buffers
+	 * @see java.nio.ByteBuffer#allocateDirect(int)
+	 */
+	boolean direct() default false;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be read-only.
+	 * <p>
+	 * Defaults to {@code false}. Ignored by {@code byte[]} targets.
+	 * @return {@code true} to produce read-only buffers
+	 * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+	 */
+	boolean readOnly() default false;
+
+	/**
+	 * The alignment in bytes of {@code java.lang.foreign.MemorySegment} targets, which
+	 * must be a power of two.
+	 * <p>
+	 * Defaults to {@code 1}. Ignored by the other targets.
+	 * @return the alignment to use
+	 */
+	long alignment() default 1;
+
 	/**
 	 * Enumeration of byte orders.
 	 */
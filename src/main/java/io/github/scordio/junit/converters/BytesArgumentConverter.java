@@ -16,53 +16,320 @@
 package io.github.scordio.junit.converters;
 
 import org.jspecify.annotations.Nullable;
-import org.junit.jupiter.params.converter.AnnotationBasedArgumentConverter;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
 
+import java.lang.reflect.AnnotatedElement;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Objects;
 
-class BytesArgumentConverter extends AnnotationBasedArgumentConverter<Bytes> {
+class BytesArgumentConverter extends ConfiguredArgumentConverter<Bytes, BytesArgumentConverter.Configuration> {
 
 	@Override
-	protected Object convert(@Nullable Object source, Class<?> targetType, Bytes annotation) {
+	public void accept(Bytes annotation) {
+		configure(new Configuration(forName(annotation.charset()), getOrder(annotation),
+				getNumberType(annotation.numberType()), getDelimiter(annotation),
+				ByteBufferFactory.of(annotation.direct(), annotation.readOnly()),
+				SegmentFactory.of(annotation.alignment())));
+	}
+
+	@Override
+	protected Configuration compose(Configuration configuration, AnnotatedElement element) {
+		return configuration.withSegments(configuration.segments.within(element));
+	}
+
+	@Override
+	protected Object convert(@Nullable Object source, Class<?> targetType, Configuration configuration) {
 		Objects.requireNonNull(source, "'null' is not supported");
 
-		if (targetType != byte[].class) {
+		NumericTarget numericTarget = NumericTarget.of(targetType);
+		if (numericTarget != null) {
+			return numericTarget.readBuffer(toBuffer(source).order(configuration.order));
+		}
+
+		if (SegmentFactory.isSegment(targetType)) {
+			return toSegment(source, configuration);
+		}
+
+		if (targetType != byte[].class && targetType != ByteBuffer.class) {
 			throw new ArgumentConversionException(
 					String.format("Target type %s is not supported", targetType.getTypeName()));
 		}
 
-		if (source instanceof String) {
-			return ((String) source).getBytes(forName(annotation.charset()));
+		if (source instanceof String && configuration.numberType == null) {
+			byte[] bytes = ((String) source).getBytes(configuration.charset);
+			return targetType == byte[].class ? bytes : configuration.buffers.wrap(bytes);
+		}
+
+		if (targetType == byte[].class && source.getClass().isArray()) {
+			return toByteArray(source, configuration.order == ByteOrder.BIG_ENDIAN);
+		}
+
+		int size = getSize(source, configuration);
+
+		if (targetType == byte[].class) {
+			byte[] bytes = new byte[size];
+			int length = put(source, ByteBuffer.wrap(bytes).order(configuration.order), configuration).position();
+			// only delimited numbers can be shorter than their estimated size
+			return length == size ? bytes : Arrays.copyOf(bytes, length);
 		}
+
+		ByteBuffer buffer = configuration.buffers.allocate(size).order(configuration.order);
+		return configuration.buffers.flip(put(source, buffer, configuration));
+	}
+
+	private static Object toSegment(Object source, Configuration configuration) {
+		SegmentFactory segments = configuration.segments;
+		if (source instanceof String && configuration.numberType == null) {
+			return segments.wrap(((String) source).getBytes(configuration.charset));
+		}
+		ByteBuffer buffer = segments.allocate(getSize(source, configuration)).order(configuration.order);
+		return segments.flip(put(source, buffer, configuration));
+	}
+
+	private static byte[] toByteArray(Object source, boolean bigEndian) {
+		if (source instanceof short[]) {
+			return NumberCodec.toBytes((short[]) source, bigEndian);
+		}
+		if (source instanceof int[]) {
+			return NumberCodec.toBytes((int[]) source, bigEndian);
+		}
+		if (source instanceof long[]) {
+			return NumberCodec.toBytes((long[]) source, bigEndian);
+		}
+		if (source instanceof float[]) {
+			return NumberCodec.toBytes((float[]) source, bigEndian);
+		}
+		if (source instanceof double[]) {
+			return NumberCodec.toBytes((double[]) source, bigEndian);
+		}
+		throw new ArgumentConversionException(
+				String.format("Source type %s is not supported", source.getClass().getTypeName()));
+	}
+
+	private static ByteBuffer toBuffer(Object source) {
+		if (source instanceof byte[]) {
+			return ByteBuffer.wrap((byte[]) source);
+		}
+		if (source instanceof ByteBuffer) {
+			return ((ByteBuffer) source).duplicate();
+		}
+		throw new ArgumentConversionException(
+				String.format("Source type %s is not supported", source.getClass().getTypeName()));
+	}
+
+	private static int getSize(Object source, Configuration configuration) {
 		if (source instanceof Byte) {
-			return ByteBuffer.allocate(Byte.BYTES).order(getOrder(annotation)).put((byte) source).array();
+			return Byte.BYTES;
 		}
 		if (source instanceof Short) {
-			return ByteBuffer.allocate(Short.BYTES).order(getOrder(annotation)).putShort((short) source).array();
+			return Short.BYTES;
 		}
 		if (source instanceof Integer) {
-			return ByteBuffer.allocate(Integer.BYTES).order(getOrder(annotation)).putInt((int) source).array();
+			return Integer.BYTES;
 		}
 		if (source instanceof Long) {
-			return ByteBuffer.allocate(Long.BYTES).order(getOrder(annotation)).putLong((long) source).array();
+			return Long.BYTES;
 		}
 		if (source instanceof Float) {
-			return ByteBuffer.allocate(Float.BYTES).order(getOrder(annotation)).putFloat((float) source).array();
+			return Float.BYTES;
 		}
 		if (source instanceof Double) {
-			return ByteBuffer.allocate(Double.BYTES).order(getOrder(annotation)).putDouble((double) source).array();
+			return Double.BYTES;
+		}
+		if (source instanceof short[]) {
+			return Math.multiplyExact(((short[]) source).length, Short.BYTES);
+		}
+		if (source instanceof int[]) {
+			return Math.multiplyExact(((int[]) source).length, Integer.BYTES);
+		}
+		if (source instanceof long[]) {
+			return Math.multiplyExact(((long[]) source).length, Long.BYTES);
+		}
+		if (source instanceof float[]) {
+			return Math.multiplyExact(((float[]) source).length, Float.BYTES);
+		}
+		if (source instanceof double[]) {
+			return Math.multiplyExact(((double[]) source).length, Double.BYTES);
+		}
+		if (source instanceof String && configuration.numberType != null) {
+			int count = getMaxNumbers((String) source, configuration.delimiter);
+			return Math.multiplyExact(count, configuration.numberType.size);
 		}
 
 		throw new ArgumentConversionException(
 				String.format("Source type %s is not supported", source.getClass().getTypeName()));
 	}
 
+	private static ByteBuffer put(Object source, ByteBuffer buffer, Configuration configuration) {
+		if (source instanceof Byte) {
+			return buffer.put((byte) source);
+		}
+		if (source instanceof Short) {
+			return buffer.putShort((short) source);
+		}
+		if (source instanceof Integer) {
+			return buffer.putInt((int) source);
+		}
+		if (source instanceof Long) {
+			return buffer.putLong((long) source);
+		}
+		if (source instanceof Float) {
+			return buffer.putFloat((float) source);
+		}
+		if (source instanceof Double) {
+			return buffer.putDouble((double) source);
+		}
+		// bulk puts through views of the buffer, which inherit its byte order
+		if (source instanceof short[]) {
+			short[] array = (short[]) source;
+			buffer.asShortBuffer().put(array);
+			return skip(buffer, array.length * Short.BYTES);
+		}
+		if (source instanceof int[]) {
+			int[] array = (int[]) source;
+			buffer.asIntBuffer().put(array);
+			return skip(buffer, array.length * Integer.BYTES);
+		}
+		if (source instanceof long[]) {
+			long[] array = (long[]) source;
+			buffer.asLongBuffer().put(array);
+			return skip(buffer, array.length * Long.BYTES);
+		}
+		if (source instanceof float[]) {
+			float[] array = (float[]) source;
+			buffer.asFloatBuffer().put(array);
+			return skip(buffer, array.length * Float.BYTES);
+		}
+		if (source instanceof double[]) {
+			double[] array = (double[]) source;
+			buffer.asDoubleBuffer().put(array);
+			return skip(buffer, array.length * Double.BYTES);
+		}
+		return putNumbers((String) source, buffer, Objects.requireNonNull(configuration.numberType),
+				configuration.delimiter);
+	}
+
+	private static ByteBuffer skip(ByteBuffer buffer, int length) {
+		// Buffer.position(int) returns a Buffer on Java 8
+		buffer.position(buffer.position() + length);
+		return buffer;
+	}
+
+	/**
+	 * Return the maximum number of numbers in the supplied string, without scanning it:
+	 * each number takes at least one character, and all but the last one are followed by
+	 * the delimiter.
+	 */
+	private static int getMaxNumbers(String source, String delimiter) {
+		return (int) ((source.length() + (long) delimiter.length()) / (delimiter.length() + 1));
+	}
+
+	private static ByteBuffer putNumbers(String source, ByteBuffer buffer, NumberType numberType, String delimiter) {
+		if (isBlank(source)) {
+			return buffer;
+		}
+		// a single pass over the index ranges of the numbers, without copying them
+		int from = 0;
+		while (true) {
+			int to = source.indexOf(delimiter, from);
+			int end = to >= 0 ? to : source.length();
+			int start = from;
+			while (start < end && source.charAt(start) <= ' ') {
+				start++;
+			}
+			while (end > start && source.charAt(end - 1) <= ' ') {
+				end--;
+			}
+			try {
+				numberType.put(source, start, end, buffer);
+			}
+			catch (NumberFormatException e) {
+				throw new ArgumentConversionException(String.format("Invalid %s value '%s'",
+						numberType.name().toLowerCase(Locale.ROOT), source.substring(start, end)), e);
+			}
+			if (to < 0) {
+				return buffer;
+			}
+			from = to + delimiter.length();
+		}
+	}
+
+	/**
+	 * Parse a decimal integer from the supplied range, like
+	 * {@link Long#parseLong(String)} but without extracting the range into a string.
+	 */
+	private static long parseInteger(String source, int from, int to, long min, long max) {
+		if (from == to) {
+			throw new NumberFormatException();
+		}
+		char first = source.charAt(from);
+		boolean negative = first == '-';
+		int index = negative || first == '+' ? from + 1 : from;
+		if (index == to) {
+			throw new NumberFormatException();
+		}
+		// accumulated negatively, like the JDK parsers, to reach the minimum value
+		long limit = negative ? min : -max;
+		long multiplyLimit = limit / 10;
+		long result = 0;
+		for (; index < to; index++) {
+			int digit = Character.digit(source.charAt(index), 10);
+			if (digit < 0 || result < multiplyLimit) {
+				throw new NumberFormatException();
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw new NumberFormatException();
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	private static boolean isBlank(String string) {
+		for (int i = 0; i < string.length(); i++) {
+			if (string.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static @Nullable NumberType getNumberType(Class<?> numberType) {
+		if (numberType == void.class) {
+			return null;
+		}
+		for (NumberType candidate : NumberType.values()) {
+			if (candidate.type == numberType) {
+				return candidate;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported number type " + numberType.getTypeName());
+	}
+
+	private static String getDelimiter(Bytes annotation) {
+		if (annotation.delimiter().isEmpty()) {
+			throw new IllegalArgumentException("Delimiter must not be empty");
+		}
+		return annotation.delimiter();
+	}
+
 	private static Charset forName(String charsetName) {
-		return charsetName.isEmpty() ? Charset.defaultCharset() : Charset.forName(charsetName);
+		if (charsetName.isEmpty()) {
+			return Charset.defaultCharset();
+		}
+		try {
+			return Charset.forName(charsetName);
+		}
+		catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+			throw new IllegalArgumentException("Unsupported charset '" + charsetName + "'", e);
+		}
 	}
 
 	private static ByteOrder getOrder(Bytes annotation) {
@@ -71,4 +338,102 @@ class BytesArgumentConverter extends AnnotationBasedArgumentConverter<Bytes> {
 				: java.nio.ByteOrder.LITTLE_ENDIAN;
 	}
 
+	static final class Configuration {
+
+		private final Charset charset;
+
+		private final ByteOrder order;
+
+		private final @Nullable NumberType numberType;
+
+		private final String delimiter;
+
+		private final ByteBufferFactory buffers;
+
+		private final SegmentFactory segments;
+
+		private Configuration(Charset charset, ByteOrder order, @Nullable NumberType numberType, String delimiter,
+				ByteBufferFactory buffers, SegmentFactory segments) {
+			this.charset = charset;
+			this.order = order;
+			this.numberType = numberType;
+			this.delimiter = delimiter;
+			this.buffers = buffers;
+			this.segments = segments;
+		}
+
+		private Configuration withSegments(SegmentFactory segments) {
+			return segments != this.segments
+					? new Configuration(charset, order, numberType, delimiter, buffers, segments) : this;
+		}
+
+	}
+
+	private enum NumberType {
+
+		BYTE(byte.class, Byte.BYTES) {
+			@Override
+			void put(String source, int from, int to, ByteBuffer buffer) {
+				buffer.put((byte) parseInteger(source, from, to, Byte.MIN_VALUE, Byte.MAX_VALUE));
+			}
+		},
+
+		SHORT(short.class, Short.BYTES) {
+			@Override
+			void put(String source, int from, int to, ByteBuffer buffer) {
+				buffer.putShort((short) parseInteger(source, from, to, Short.MIN_VALUE, Short.MAX_VALUE));
+			}
+		},
+
+		INT(int.class, Integer.BYTES) {
+			@Override
+			void put(String source, int from, int to, ByteBuffer buffer) {
+				buffer.putInt((int) parseInteger(source, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE));
+			}
+		},
+
+		LONG(long.class, Long.BYTES) {
+			@Override
+			void put(String source, int from, int to, ByteBuffer buffer) {
+				buffer.putLong(parseInteger(source, from, to, Long.MIN_VALUE, Long.MAX_VALUE));
+			}
+		},
+
+		FLOAT(float.class, Float.BYTES) {
+			@Override
+			void put(String source, int from, int to, ByteBuffer buffer) {
+				// the JDK only parses floating-point values from whole strings
+				buffer.putFloat(Float.parseFloat(source.substring(from, to)));
+			}
+		},
+
+		DOUBLE(double.class, Double.BYTES) {
+			@Override
+			void put(String source, int from, int to, ByteBuffer buffer) {
+				// the JDK only parses floating-point values from whole strings
+				buffer.putDouble(Double.parseDouble(source.substring(from, to)));
+			}
+		};
+
+		private final Class<?> type;
+
+		private final int size;
+
+		NumberType(Class<?> type, int size) {
+			this.type = type;
+			this.size = size;
+		}
+
+		/**
+		 * Parse the number in the supplied range and put it into the buffer.
+		 * @param source the delimited numbers
+		 * @param from the index of the first character of the number, not a whitespace
+		 * @param to the index following the last character of the number
+		 * @param buffer the buffer receiving the number
+		 * @throws NumberFormatException if the range is not a valid number
+		 */
+		abstract void put(String source, int from, int to, ByteBuffer buffer);
+
+	}
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.converter.ConvertWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @BytesFile} is a {@link ConvertWith} composed annotation that reads the content
+ * of a classpath resource or file into {@code byte[]} or {@link java.nio.ByteBuffer}
+ * instances.
+ * <p>
+ * The input instances are either {@link java.nio.file.Path} instances or {@link String}
+ * locations, resolved first as classpath resources and then as file paths. Files are
+ * memory-mapped: {@code byte[]} targets receive a copy of the mapping.
+ * <p>
+ * The {@link #direct} and {@link #readOnly} attributes configure the buffers produced for
+ * {@code ByteBuffer} targets. By default, they receive a read-only view of the mapping
+ * itself, and the content is copied only when a heap or writable buffer is requested.
+ *
+ * @see Bytes
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConvertWith(BytesFileArgumentConverter.class)
+@SuppressWarnings("exports")
+public @interface BytesFile {
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be direct buffers.
+	 * <p>
+	 * Defaults to {@code true}, exposing the memory-mapped file without copying it.
+	 * Resources packaged in a JAR are read into a heap buffer first and then copied.
+	 * Ignored by {@code byte[]} targets.
+	 * @return {@code true} to produce direct buffers
+	 * @see java.nio.ByteBuffer#allocateDirect(int)
+	 */
+	boolean direct() default true;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be read-only.
+	 * <p>
+	 * Defaults to {@code true}, as the memory-mapped file is read-only. Writable buffers
+	 * receive a copy of the content. Ignored by {@code byte[]} targets.
+	 * @return {@code true} to produce read-only buffers
+	 * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+	 */
+	boolean readOnly() default true;
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.api.Named;
+
+import java.util.zip.CRC32;
+
+/**
+ * Bounded descriptions of byte arrays, used as display names of the arguments provided by
+ * the sources instead of the default rendering of every byte.
+ * <p>
+ * Arrays up to the configured preview length are described by their hexadecimal digits
+ * and their length. Longer arrays are described by the hexadecimal digits of their first
+ * bytes, their length and the CRC-32 checksum of a bounded sample of their bytes: the
+ * whole array up to twice the sample length, otherwise its first and last sample length
+ * bytes only, so that describing an array takes constant time regardless of its length.
+ */
+final class BytesPreview {
+
+	static final String LENGTH_PROPERTY_NAME = "junit.converters.display.preview.length";
+
+	static final long DEFAULT_LENGTH = 16;
+
+	private static final int LENGTH = (int) Math.max(0,
+			Math.min(Integer.MAX_VALUE, ConfigurationParameters.getLong(LENGTH_PROPERTY_NAME, DEFAULT_LENGTH)));
+
+	static final int SAMPLE_LENGTH = 1024;
+
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+	private BytesPreview() {
+	}
+
+	/**
+	 * Name the supplied bytes with their preview.
+	 * @param bytes the bytes to name
+	 * @return the bytes, named with their preview
+	 */
+	static Named<byte[]> named(byte[] bytes) {
+		return Named.of(of(bytes), bytes);
+	}
+
+	/**
+	 * Describe the supplied bytes, in constant time and space regardless of their length.
+	 * @param bytes the bytes to describe
+	 * @return the description of the bytes
+	 */
+	static String of(byte[] bytes) {
+		int length = Math.min(bytes.length, LENGTH);
+		StringBuilder builder = new StringBuilder(length * 2 + 40);
+		for (int i = 0; i < length; i++) {
+			builder.append(DIGITS[(bytes[i] >> 4) & 0xF]).append(DIGITS[bytes[i] & 0xF]);
+		}
+		if (length < bytes.length) {
+			builder.append('\u2026');
+		}
+		if (builder.length() > 0) {
+			builder.append(' ');
+		}
+		builder.append('(').append(bytes.length).append(bytes.length == 1 ? " byte" : " bytes");
+		if (length < bytes.length) {
+			CRC32 crc32 = new CRC32();
+			if (bytes.length <= SAMPLE_LENGTH * 2) {
+				crc32.update(bytes, 0, bytes.length);
+			}
+			else {
+				crc32.update(bytes, 0, SAMPLE_LENGTH);
+				crc32.update(bytes, bytes.length - SAMPLE_LENGTH, SAMPLE_LENGTH);
+			}
+			builder.append(", CRC-32 ").append(String.format("%08x", crc32.getValue()));
+		}
+		return builder.append(')').toString();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Properties;
+
+/**
+ * Configuration parameters of the converters, resolved like the JUnit Platform does:
+ * first from the JVM system properties and then from the
+ * {@code junit-platform.properties} file in the root of the class path.
+ * <p>
+ * Parameters supplied programmatically to the launcher are not visible to argument
+ * converters, and are therefore not supported.
+ */
+final class ConfigurationParameters {
+
+	static final String CONFIG_FILE_NAME = "junit-platform.properties";
+
+	private static final Properties CONFIG_FILE_PROPERTIES = loadConfigFile();
+
+	private ConfigurationParameters() {
+	}
+
+	static @Nullable String get(String key) {
+		String value = System.getProperty(key);
+		return value != null ? value : CONFIG_FILE_PROPERTIES.getProperty(key);
+	}
+
+	static boolean getBoolean(String key, boolean defaultValue) {
+		String value = get(key);
+		return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+	}
+
+	static long getLong(String key, long defaultValue) {
+		String value = get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid value '" + value + "' for configuration parameter " + key, e);
+		}
+	}
+
+	private static Properties loadConfigFile() {
+		Properties properties = new Properties();
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		URL resource = (classLoader != null ? classLoader : ConfigurationParameters.class.getClassLoader())
+			.getResource(CONFIG_FILE_NAME);
+		if (resource != null) {
+			try (InputStream inputStream = resource.openStream()) {
+				properties.load(inputStream);
+			}
+			catch (IOException e) {
+				throw new IllegalStateException("Failed to load " + resource, e);
+			}
+		}
+		return properties;
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.junit.jupiter.params.support.FieldContext;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * Variant of {@link org.junit.jupiter.params.converter.AnnotationBasedArgumentConverter}
+ * that resolves the annotation into a configuration once, when the annotation is bound,
+ * instead of on every conversion.
+ * <p>
+ * Subclasses must implement {@link #accept} with their concrete annotation type, as
+ * required by JUnit to discover the annotation to bind, and resolve the configuration
+ * with {@link #configure}. Subclasses composable with other annotations on the same
+ * element can complete the configuration with {@link #compose}.
+ * <p>
+ * {@link java.util.function.Supplier} targets defer the conversion into their type
+ * argument to the first {@link java.util.function.Supplier#get()} call.
+ *
+ * @param <A> the type of the annotation
+ * @param <C> the type of the configuration
+ */
+abstract class ConfiguredArgumentConverter<A extends Annotation, C>
+		implements ArgumentConverter, AnnotationConsumer<A> {
+
+	private @Nullable C configuration;
+
+	private volatile @Nullable Composition<C> composition;
+
+	@Override
+	public final Object convert(@Nullable Object source, ParameterContext context) throws ArgumentConversionException {
+		return convert(source, context.getParameter().getType(), context.getParameter().getParameterizedType(),
+				context.getParameter());
+	}
+
+	@Override
+	public final Object convert(@Nullable Object source, FieldContext context) throws ArgumentConversionException {
+		return convert(source, context.getField().getType(), context.getField().getGenericType(), context.getField());
+	}
+
+	private Object convert(@Nullable Object source, Class<?> targetType, Type genericType, AnnotatedElement element) {
+		if (LazyConversion.isLazy(targetType)) {
+			Class<?> suppliedType = LazyConversion.getSuppliedType(genericType);
+			return new LazyConversion(() -> convert(source, suppliedType, element));
+		}
+		return convert(source, targetType, element);
+	}
+
+	private Object convert(@Nullable Object source, Class<?> targetType, AnnotatedElement element) {
+		Object event = ConversionEvents.begin();
+		long start = ConversionMetrics.start();
+		try {
+			Object result = convert(source, targetType, getConfiguration(element));
+			ConversionMetrics.recordSuccess(getClass(), targetType, source, result, start);
+			ConversionEvents.commit(event, getClass(), targetType, source, result, false);
+			return result;
+		}
+		catch (RuntimeException e) {
+			ConversionMetrics.recordFailure(getClass(), targetType, source, start);
+			ConversionEvents.commit(event, getClass(), targetType, source, null, true);
+			throw e;
+		}
+	}
+
+	private C getConfiguration(AnnotatedElement element) {
+		// JUnit binds a converter instance to a single element, so this is computed once
+		Composition<C> composition = this.composition;
+		if (composition == null || (composition.element != element && !composition.element.equals(element))) {
+			C configuration = Objects.requireNonNull(this.configuration, "configuration not initialized");
+			composition = new Composition<>(element, compose(configuration, element));
+			this.composition = composition;
+		}
+		return composition.configuration;
+	}
+
+	/**
+	 * Set the configuration used by all conversions.
+	 * @param configuration the configuration resolved from the bound annotation
+	 */
+	protected final void configure(C configuration) {
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Complete the configuration with the annotations composed with the bound one on the
+	 * annotated element, invoked before the first conversion.
+	 * <p>
+	 * Defaults to returning the supplied configuration.
+	 * @param configuration the configuration resolved from the bound annotation
+	 * @param element the parameter or field being converted
+	 * @return the configuration used by the conversions of the element
+	 */
+	protected C compose(C configuration, AnnotatedElement element) {
+		return configuration;
+	}
+
+	/**
+	 * Convert the supplied source object into the supplied target type, based on the
+	 * resolved configuration.
+	 * @param source the source object to convert; may be {@code null}
+	 * @param targetType the target type the source object should be converted into
+	 * @param configuration the resolved configuration
+	 * @return the converted object
+	 * @throws ArgumentConversionException in case an error occurs during the conversion
+	 */
+	protected abstract Object convert(@Nullable Object source, Class<?> targetType, C configuration)
+			throws ArgumentConversionException;
+
+	private static final class Composition<C> {
+
+		private final AnnotatedElement element;
+
+		private final C configuration;
+
+		private Composition(AnnotatedElement element, C configuration) {
+			this.element = element;
+			this.configuration = configuration;
+		}
+
+	}
+
+}
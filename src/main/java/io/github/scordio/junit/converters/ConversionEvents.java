@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder events of the conversions, named
+ * {@code io.github.scordio.junit.converters.Conversion}.
+ * <p>
+ * This implementation does not emit any event. The multi-release JAR replaces it on Java
+ * 11 and later with an implementation emitting the events, unless the {@code jdk.jfr}
+ * module is not available.
+ */
+final class ConversionEvents {
+
+	private ConversionEvents() {
+	}
+
+	/**
+	 * Begin the event of a conversion.
+	 * @return the event to pass to {@link #commit}, or {@code null} if the event is
+	 * disabled
+	 */
+	static @Nullable Object begin() {
+		return null;
+	}
+
+	/**
+	 * End and commit the event of a conversion.
+	 * @param event the event returned by {@link #begin}
+	 * @param converter the converter class
+	 * @param targetType the target type
+	 * @param source the source
+	 * @param result the result, or {@code null} if the conversion failed
+	 * @param failed whether the conversion failed
+	 */
+	static void commit(@Nullable Object event, Class<?> converter, Class<?> targetType, @Nullable Object source,
+			@Nullable Object result, boolean failed) {
+	}
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in metrics of the conversions, aggregated per converter and target type.
+ * <p>
+ * The metrics are enabled with the {@value #ENABLED_PROPERTY_NAME} configuration
+ * parameter and reported by {@link ConversionMetricsListener}. When disabled, the
+ * converters skip the instrumentation entirely.
+ *
+ * @see ConfigurationParameters
+ */
+final class ConversionMetrics {
+
+	static final String ENABLED_PROPERTY_NAME = "junit.converters.metrics.enabled";
+
+	private static final boolean ENABLED = ConfigurationParameters.getBoolean(ENABLED_PROPERTY_NAME, false);
+
+	private ConversionMetrics() {
+	}
+
+	static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Start measuring a conversion.
+	 * @return the start time to pass to {@link #recordSuccess} or {@link #recordFailure}
+	 */
+	static long start() {
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	static void recordSuccess(Class<?> converter, Class<?> targetType, @Nullable Object source, @Nullable Object result,
+			long start) {
+		if (ENABLED) {
+			getMetric(converter, targetType).record(sizeOf(source), sizeOf(result), false, System.nanoTime() - start);
+		}
+	}
+
+	static void recordFailure(Class<?> converter, Class<?> targetType, @Nullable Object source, long start) {
+		if (ENABLED) {
+			getMetric(converter, targetType).record(sizeOf(source), 0, true, System.nanoTime() - start);
+		}
+	}
+
+	private static Metric getMetric(Class<?> converter, Class<?> targetType) {
+		Key key = new Key(converter.getSimpleName(), targetType.getTypeName());
+		Metric metric = Registry.METRICS.get(key);
+		return metric != null ? metric : Registry.METRICS.computeIfAbsent(key, Metric::new);
+	}
+
+	static void reset() {
+		Registry.METRICS.clear();
+	}
+
+	static List<Snapshot> snapshot() {
+		List<Snapshot> snapshots = new ArrayList<>();
+		for (Metric metric : Registry.METRICS.values()) {
+			snapshots.add(metric.snapshot());
+		}
+		snapshots.sort(Comparator.comparing((Snapshot snapshot) -> snapshot.converter)
+			.thenComparing(snapshot -> snapshot.targetType));
+		return snapshots;
+	}
+
+	/**
+	 * Return the size in bytes of the supplied value, or zero if it cannot be determined
+	 * without consuming it, like for streams.
+	 */
+	static long sizeOf(@Nullable Object value) {
+		if (value instanceof byte[]) {
+			return ((byte[]) value).length;
+		}
+		if (value instanceof ByteBuffer) {
+			return ((ByteBuffer) value).remaining();
+		}
+		if (value instanceof CharSequence) {
+			return ((CharSequence) value).length();
+		}
+		return 0;
+	}
+
+	// Defers the creation of the metrics to the first recorded conversion, so that the
+	// converters only read the flag when the metrics are disabled
+	private static final class Registry {
+
+		private static final Map<Key, Metric> METRICS = new ConcurrentHashMap<>();
+
+	}
+
+	private static final class Key {
+
+		private final String converter;
+
+		private final String targetType;
+
+		private Key(String converter, String targetType) {
+			this.converter = converter;
+			this.targetType = targetType;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return converter.equals(other.converter) && targetType.equals(other.targetType);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * converter.hashCode() + targetType.hashCode();
+		}
+
+	}
+
+	private static final class Metric {
+
+		private final Key key;
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder failures = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final LongAdder inputBytes = new LongAdder();
+
+		private final LongAdder outputBytes = new LongAdder();
+
+		private final LatencyHistogram latencies = new LatencyHistogram();
+
+		private Metric(Key key) {
+			this.key = key;
+		}
+
+		private void record(long input, long output, boolean failed, long nanos) {
+			count.increment();
+			if (failed) {
+				failures.increment();
+			}
+			totalNanos.add(nanos);
+			inputBytes.add(input);
+			outputBytes.add(output);
+			latencies.record(nanos);
+		}
+
+		private Snapshot snapshot() {
+			return new Snapshot(key.converter, key.targetType, count.sum(), failures.sum(), totalNanos.sum(),
+					latencies.percentile(0.99), inputBytes.sum(), outputBytes.sum());
+		}
+
+	}
+
+	/**
+	 * Log-linear histogram of latencies in nanoseconds, with buckets of a relative width
+	 * of 1/8 of their power of two.
+	 */
+	private static final class LatencyHistogram {
+
+		private static final int SUB_BUCKET_BITS = 3;
+
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+
+		private void record(long nanos) {
+			buckets.incrementAndGet(indexOf(Math.max(nanos, 0)));
+		}
+
+		private long percentile(double percentile) {
+			long total = 0;
+			for (int i = 0; i < buckets.length(); i++) {
+				total += buckets.get(i);
+			}
+			long rank = (long) Math.ceil(total * percentile);
+			long seen = 0;
+			for (int i = 0; i < buckets.length(); i++) {
+				seen += buckets.get(i);
+				if (seen >= rank && seen > 0) {
+					return upperBoundOf(i);
+				}
+			}
+			return 0;
+		}
+
+		private static int indexOf(long value) {
+			if (value < SUB_BUCKETS) {
+				return (int) value;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(value);
+			int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+			return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+		}
+
+		private static long upperBoundOf(int index) {
+			if (index < SUB_BUCKETS) {
+				return index;
+			}
+			int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+			long subBucket = index % SUB_BUCKETS;
+			return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+		}
+
+	}
+
+	static final class Snapshot {
+
+		final String converter;
+
+		final String targetType;
+
+		final long count;
+
+		final long failures;
+
+		final long totalNanos;
+
+		final long p99Nanos;
+
+		final long inputBytes;
+
+		final long outputBytes;
+
+		private Snapshot(String converter, String targetType, long count, long failures, long totalNanos, long p99Nanos,
+				long inputBytes, long outputBytes) {
+			this.converter = converter;
+			this.targetType = targetType;
+			this.count = count;
+			this.failures = failures;
+			this.totalNanos = totalNanos;
+			this.p99Nanos = p99Nanos;
+			this.inputBytes = inputBytes;
+			this.outputBytes = outputBytes;
+		}
+
+	}
+
+}
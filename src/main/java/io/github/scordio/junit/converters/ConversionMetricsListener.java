@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import io.github.scordio.junit.converters.ConversionMetrics.Snapshot;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * {@link LauncherSessionListener} writing a summary of the conversion metrics once the
+ * launcher session is closed.
+ * <p>
+ * The listener is not registered automatically: it can be registered with a
+ * {@code META-INF/services/org.junit.platform.launcher.LauncherSessionListener} file in
+ * the test class path, and does nothing unless the
+ * {@code junit.converters.metrics.enabled} configuration parameter is set to
+ * {@code true}. The metrics are reset when the session is opened, and the summary is
+ * written as {@code junit-converters-metrics.json} and
+ * {@code junit-converters-metrics.csv} in the directory configured by the
+ * {@code junit.converters.metrics.output-dir} configuration parameter, defaulting to the
+ * working directory.
+ * <p>
+ * For each converter and target type, the summary reports the number of conversions and
+ * failures, the total and 99th percentile latencies in nanoseconds, and the input and
+ * output sizes in bytes. Sizes are only tracked for strings, byte arrays and buffers.
+ */
+@SuppressWarnings("exports")
+public final class ConversionMetricsListener implements LauncherSessionListener {
+
+	static final String OUTPUT_DIR_PROPERTY_NAME = "junit.converters.metrics.output-dir";
+
+	static final String FILE_NAME = "junit-converters-metrics";
+
+	private static final String[] COLUMNS = { "converter", "targetType", "count", "failures", "totalNanos", "p99Nanos",
+			"inputBytes", "outputBytes" };
+
+	/**
+	 * Create a new listener.
+	 */
+	public ConversionMetricsListener() {
+	}
+
+	@Override
+	public void launcherSessionOpened(LauncherSession session) {
+		if (ConversionMetrics.isEnabled()) {
+			ConversionMetrics.reset();
+		}
+	}
+
+	@Override
+	public void launcherSessionClosed(LauncherSession session) {
+		if (!ConversionMetrics.isEnabled()) {
+			return;
+		}
+		String outputDir = ConfigurationParameters.get(OUTPUT_DIR_PROPERTY_NAME);
+		Path directory = Paths.get(outputDir != null ? outputDir : "");
+		List<Snapshot> snapshots = ConversionMetrics.snapshot();
+		try {
+			Files.createDirectories(directory.toAbsolutePath());
+			try (Writer writer = Files.newBufferedWriter(directory.resolve(FILE_NAME + ".json"),
+					StandardCharsets.UTF_8)) {
+				writeJson(snapshots, writer);
+			}
+			try (Writer writer = Files.newBufferedWriter(directory.resolve(FILE_NAME + ".csv"),
+					StandardCharsets.UTF_8)) {
+				writeCsv(snapshots, writer);
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to write conversion metrics to " + directory.toAbsolutePath(), e);
+		}
+	}
+
+	private static void writeJson(List<Snapshot> snapshots, Writer writer) throws IOException {
+		writer.write("[");
+		for (int i = 0; i < snapshots.size(); i++) {
+			Object[] values = valuesOf(snapshots.get(i));
+			writer.write(i == 0 ? "\n  {" : ",\n  {");
+			for (int j = 0; j < COLUMNS.length; j++) {
+				writer.write(j == 0 ? " " : ", ");
+				writer.write('"' + COLUMNS[j] + "\": ");
+				writer.write(values[j] instanceof String ? '"' + escapeJson((String) values[j]) + '"'
+						: String.valueOf(values[j]));
+			}
+			writer.write(" }");
+		}
+		writer.write(snapshots.isEmpty() ? "]\n" : "\n]\n");
+	}
+
+	private static void writeCsv(List<Snapshot> snapshots, Writer writer) throws IOException {
+		writer.write(String.join(",", COLUMNS));
+		writer.write('\n');
+		for (Snapshot snapshot : snapshots) {
+			Object[] values = valuesOf(snapshot);
+			for (int j = 0; j < values.length; j++) {
+				if (j > 0) {
+					writer.write(',');
+				}
+				writer.write(String.valueOf(values[j]));
+			}
+			writer.write('\n');
+		}
+	}
+
+	private static Object[] valuesOf(Snapshot snapshot) {
+		return new Object[] { snapshot.converter, snapshot.targetType, snapshot.count, snapshot.failures,
+				snapshot.totalNanos, snapshot.p99Nanos, snapshot.inputBytes, snapshot.outputBytes };
+	}
+
+	private static String escapeJson(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+}
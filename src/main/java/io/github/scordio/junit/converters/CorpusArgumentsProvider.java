@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.converter.ConvertWith;
+import org.junit.jupiter.params.provider.AnnotationBasedArgumentsProvider;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.support.ParameterDeclaration;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+class CorpusArgumentsProvider extends AnnotationBasedArgumentsProvider<CorpusSource> {
+
+	@Override
+	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
+			CorpusSource annotation) {
+		Path directory = FileContents.directory(annotation.value());
+		PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + annotation.glob());
+		Function<Path, Object> reader = parameters.getFirst()
+			.map(CorpusArgumentsProvider::reader)
+			.orElse(CorpusArgumentsProvider::readAllBytes);
+		boolean withPath = parameters.get(1).isPresent();
+
+		return walk(directory).filter(path -> matcher.matches(directory.relativize(path))).map(path -> {
+			String name = directory.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+			Object content = reader.apply(path);
+			return withPath ? argumentSet(name, content, path) : argumentSet(name, content);
+		});
+	}
+
+	private static Function<Path, Object> reader(ParameterDeclaration parameter) {
+		if (!AnnotationSupport.isAnnotated(parameter.getAnnotatedElement(), ConvertWith.class)) {
+			if (parameter.getParameterType() == ByteBuffer.class) {
+				return FileContents::map;
+			}
+			if (parameter.getParameterType() == InputStream.class) {
+				return CorpusArgumentsProvider::newInputStream;
+			}
+		}
+		return CorpusArgumentsProvider::readAllBytes;
+	}
+
+	/**
+	 * Walk the supplied directory depth-first, listing the entries of each directory only
+	 * when the entries preceding it have been consumed.
+	 * @param directory the directory to walk
+	 * @return the files of the directory and of its subdirectories
+	 */
+	@SuppressWarnings("StreamResourceLeak") // closed by flatMap or by the caller
+	private static Stream<Path> walk(Path directory) {
+		Stream<Path> entries;
+		try {
+			entries = Files.list(directory);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to list directory [" + directory + "]", e);
+		}
+		return entries.sorted().flatMap(path -> Files.isDirectory(path) ? walk(path) : Stream.of(path));
+	}
+
+	private static byte[] readAllBytes(Path path) {
+		try {
+			return Files.readAllBytes(path);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read file [" + path + "]", e);
+		}
+	}
+
+	private static InputStream newInputStream(Path path) {
+		try {
+			return Files.newInputStream(path);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to open file [" + path + "]", e);
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @CorpusSource} is an {@link ArgumentsSource} that provides the content of each
+ * file in a directory, like a fuzzing corpus or captured frames, as the arguments of one
+ * invocation.
+ * <p>
+ * The directory is walked lazily, in lexicographic order within each directory, and each
+ * file is opened only when its invocation is about to run: the files are never read up
+ * front.
+ * <p>
+ * The content is provided as the first argument, depending on the type of the first
+ * parameter:
+ * <ul>
+ * <li>{@link java.nio.ByteBuffer}: a read-only buffer memory-mapping the file</li>
+ * <li>{@link java.io.InputStream}: a stream reading the file, closed after the
+ * invocation</li>
+ * <li>any other type: a {@code byte[]} holding the content, which explicit converters
+ * like {@link Hex} or {@link Gzip} can convert further</li>
+ * </ul>
+ * When a second parameter is declared, the {@link java.nio.file.Path} of the file is
+ * provided as the second argument. The display name of each invocation is the path of the
+ * file, relative to the directory.
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(CorpusArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface CorpusSource {
+
+	/**
+	 * The location of the directory, resolved first as a classpath resource and then as a
+	 * file path.
+	 * <p>
+	 * Classpath resources must be directories of the file system: directories packaged in
+	 * a JAR are not supported.
+	 * @return the location of the directory
+	 */
+	String value();
+
+	/**
+	 * The glob pattern selecting the files, matched against their paths relative to the
+	 * directory, with {@code /} as separator.
+	 * <p>
+	 * Defaults to {@code **}, selecting all the files of the directory and of its
+	 * subdirectories.
+	 * @return the glob pattern selecting the files
+	 * @see java.nio.file.FileSystem#getPathMatcher(String)
+	 */
+	String glob() default "**";
+
+}
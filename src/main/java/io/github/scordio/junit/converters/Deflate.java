@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.converter.ConvertWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Deflate} is a {@link ConvertWith} composed annotation that decompresses DEFLATE
+ * instances of type {@code byte[]} or {@link java.io.InputStream} into {@code byte[]},
+ * {@link java.nio.ByteBuffer}, {@code InputStream} or
+ * {@link java.nio.channels.ReadableByteChannel} instances.
+ * <p>
+ * The input instances are expected in the ZLIB format, unless the {@link #nowrap}
+ * attribute is set.
+ * <p>
+ * Like {@link Gzip @Gzip}, it can be combined with {@link Hex @Hex} or
+ * {@link Base64 @Base64} on the same element to decode and decompress the input instances
+ * as a single stream.
+ *
+ * @see java.util.zip.InflaterInputStream
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConvertWith(DeflateArgumentConverter.class)
+@SuppressWarnings("exports")
+public @interface Deflate {
+
+	/**
+	 * Whether the input instances are raw DEFLATE data, without the ZLIB header and
+	 * checksum.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @return {@code true} to decompress raw DEFLATE data
+	 * @see java.util.zip.Inflater#Inflater(boolean)
+	 */
+	boolean nowrap() default false;
+
+}
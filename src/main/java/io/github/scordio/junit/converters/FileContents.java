@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+
+/**
+ * Reads the content of classpath resources and files, memory-mapping them whenever
+ * possible.
+ */
+final class FileContents {
+
+	private FileContents() {
+	}
+
+	/**
+	 * Read the content of the supplied source, either a {@link Path} or a location
+	 * resolved first as a classpath resource and then as a file path.
+	 * @param source the source to read
+	 * @param reader the function reading the content
+	 * @param <T> the type of the result
+	 * @return the result of the reader
+	 */
+	static <T> T read(Object source, Function<ByteBuffer, T> reader) {
+		if (source instanceof Path) {
+			return map((Path) source, reader);
+		}
+		if (source instanceof String) {
+			return read((String) source, reader);
+		}
+		throw new ArgumentConversionException(
+				String.format("Source type %s is not supported", source.getClass().getTypeName()));
+	}
+
+	private static <T> T read(String location, Function<ByteBuffer, T> reader) {
+		URL resource = getClassLoader().getResource(location.startsWith("/") ? location.substring(1) : location);
+
+		if (resource != null) {
+			if ("file".equals(resource.getProtocol())) {
+				return map(toPath(resource), reader);
+			}
+			try (InputStream inputStream = resource.openStream()) {
+				return reader.apply(ByteBuffer.wrap(readAllBytes(inputStream)));
+			}
+			catch (IOException e) {
+				throw new ArgumentConversionException("Failed to read classpath resource [" + location + "]", e);
+			}
+		}
+
+		Path path = Paths.get(location);
+		if (Files.isRegularFile(path)) {
+			return map(path, reader);
+		}
+
+		throw new ArgumentConversionException("Classpath resource or file [" + location + "] does not exist");
+	}
+
+	/**
+	 * Open the supplied location, resolved first as a classpath resource and then as a
+	 * file path, for sequential reads.
+	 * @param location the location to open
+	 * @return the stream of the content
+	 * @throws IOException if the location cannot be opened
+	 * @throws IllegalArgumentException if the location does not exist
+	 */
+	static InputStream open(String location) throws IOException {
+		URL resource = getClassLoader().getResource(location.startsWith("/") ? location.substring(1) : location);
+		if (resource != null) {
+			return resource.openStream();
+		}
+
+		Path path = Paths.get(location);
+		if (Files.isRegularFile(path)) {
+			return Files.newInputStream(path);
+		}
+
+		throw new IllegalArgumentException("Classpath resource or file [" + location + "] does not exist");
+	}
+
+	/**
+	 * Resolve the supplied location as a directory, first as a classpath resource and
+	 * then as a file path.
+	 * @param location the location to resolve
+	 * @return the path of the directory
+	 * @throws IllegalArgumentException if the location is not a directory
+	 */
+	static Path directory(String location) {
+		URL resource = getClassLoader().getResource(location.startsWith("/") ? location.substring(1) : location);
+		if (resource != null && "file".equals(resource.getProtocol())) {
+			Path path = toPath(resource);
+			if (Files.isDirectory(path)) {
+				return path;
+			}
+		}
+
+		Path path = Paths.get(location);
+		if (Files.isDirectory(path)) {
+			return path;
+		}
+
+		throw new IllegalArgumentException("Classpath resource or directory [" + location + "] does not exist");
+	}
+
+	/**
+	 * Memory-map the content of the supplied file.
+	 * @param path the file to map
+	 * @return a read-only buffer of the content
+	 */
+	static ByteBuffer map(Path path) {
+		return map(path, Function.identity());
+	}
+
+	private static <T> T map(Path path, Function<ByteBuffer, T> reader) {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			// the mapping remains valid after the channel is closed
+			return reader.apply(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+		}
+		catch (IOException e) {
+			throw new ArgumentConversionException("Failed to read file [" + path + "]", e);
+		}
+	}
+
+	/**
+	 * Exclude the trailing ASCII whitespace of the supplied content, like the line
+	 * terminator that text editors usually append to text files.
+	 * @param content the content to trim
+	 * @return the supplied content, with its limit moved before the trailing whitespace
+	 */
+	static ByteBuffer trimTrailingWhitespace(ByteBuffer content) {
+		int limit = content.limit();
+		while (limit > content.position() && isWhitespace(content.get(limit - 1))) {
+			limit--;
+		}
+		content.limit(limit);
+		return content;
+	}
+
+	static byte[] toByteArray(ByteBuffer content) {
+		byte[] bytes = new byte[content.remaining()];
+		content.get(bytes);
+		return bytes;
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+	}
+
+	private static ClassLoader getClassLoader() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return classLoader != null ? classLoader : FileContents.class.getClassLoader();
+	}
+
+	private static Path toPath(URL resource) {
+		try {
+			return Paths.get(resource.toURI());
+		}
+		catch (URISyntaxException e) {
+			throw new ArgumentConversionException("Invalid classpath resource URL " + resource, e);
+		}
+	}
+
+	static byte[] readAllBytes(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			outputStream.write(buffer, 0, read);
+		}
+		return outputStream.toByteArray();
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.converter.ConvertWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Gzip} is a {@link ConvertWith} composed annotation that decompresses GZIP
+ * instances of type {@code byte[]} or {@link java.io.InputStream} into {@code byte[]},
+ * {@link java.nio.ByteBuffer}, {@code InputStream} or
+ * {@link java.nio.channels.ReadableByteChannel} instances.
+ * <p>
+ * When combined with {@link Hex @Hex} or {@link Base64 @Base64} on the same element,
+ * directly or through a composed annotation, the input instances are decoded and
+ * decompressed as a single stream, without an intermediate copy of the decoded content.
+ * The {@code direct} and {@code readOnly} attributes of the combined annotation configure
+ * the buffers produced for {@code ByteBuffer} targets.
+ * <p>
+ * {@code InputStream} and {@code ReadableByteChannel} targets decompress the input
+ * instances lazily, while they are read. Malformed input is reported with an
+ * {@link java.io.IOException} when reached.
+ *
+ * @see java.util.zip.GZIPInputStream
+ * @see Deflate
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConvertWith(GzipArgumentConverter.class)
+@SuppressWarnings("exports")
+public @interface Gzip {
+
+}
@@ -25,9 +25,34 @@ import java.lang.annotation.Target;
 
 /**
  * {@code @Hex} is a {@link ConvertWith} composed annotation that decodes hexadecimal
- * {@link String} instances into {@code byte[]} instances.
+ * instances of type {@link String} or ASCII-encoded {@code byte[]} into {@code byte[]},
+ * {@link java.nio.ByteBuffer} or numeric instances.
  * <p>
- * The input strings are treated as case-insensitive and can be prefixed by {@code 0x}.
+ * The input instances are treated as case-insensitive and can be prefixed by {@code 0x}.
+ * <p>
+ * The {@link #separators} and {@link #ignoreWhitespace} attributes accept bytes separated
+ * by characters like {@code :} or by whitespace, like the line breaks of text blocks. The
+ * {@link #format} attribute accepts the output of {@code xxd} or {@code hexdump -C}.
+ * These layouts are parsed in a single pass, without intermediate copies of the input.
+ * <p>
+ * Numeric targets of type {@code int}, {@code long}, {@link java.math.BigInteger},
+ * {@code short[]}, {@code int[]}, {@code long[]}, {@code float[]} and {@code double[]}
+ * are decoded straight from the hexadecimal digits, using the byte order configured by
+ * the {@link #order} attribute. Scalar targets require exactly as many bytes as their
+ * size, array targets a multiple of their element size, and {@code BigInteger} targets
+ * are decoded as an unsigned magnitude.
+ * <p>
+ * The {@link #direct} and {@link #readOnly} attributes configure the buffers produced for
+ * {@code ByteBuffer} targets.
+ * <p>
+ * On Java 22 and later, {@code java.lang.foreign.MemorySegment} targets are decoded
+ * straight into native memory, aligned as configured by the {@link #alignment} attribute.
+ * They are allocated in an automatic arena, unless the element is also annotated with
+ * {@link ScopedArena @ScopedArena}.
+ * <p>
+ * {@link java.io.InputStream} and {@link java.nio.channels.ReadableByteChannel} targets
+ * decode the input instances lazily, while they are read. Malformed input is reported
+ * with an {@link java.io.IOException} when reached.
  */
 @Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
@@ -36,4 +61,96 @@ import java.lang.annotation.Target;
 @SuppressWarnings("exports")
 public @interface Hex {
 
+	/**
+	 * The byte order the converter should use when decoding numeric targets.
+	 * <p>
+	 * Defaults to {@link Bytes.ByteOrder#BIG_ENDIAN}. Ignored by the other targets.
+	 * @return the byte order to use
+	 */
+	Bytes.ByteOrder order() default Bytes.ByteOrder.BIG_ENDIAN;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be allocated as direct buffers.
+	 * <p>
+	 * Defaults to {@code false}, allocating heap buffers. Ignored by {@code byte[]}
+	 * targets.
+	 * @return {@code true} to allocate direct buffers
+	 * @see java.nio.ByteBuffer#allocateDirect(int)
+	 */
+	boolean direct() default false;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be read-only.
+	 * <p>
+	 * Defaults to {@code false}. Ignored by {@code byte[]} targets.
+	 * @return {@code true} to produce read-only buffers
+	 * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+	 */
+	boolean readOnly() default false;
+
+	/**
+	 * The alignment in bytes of {@code java.lang.foreign.MemorySegment} targets, which
+	 * must be a power of two.
+	 * <p>
+	 * Defaults to {@code 1}. Ignored by the other targets.
+	 * @return the alignment to use
+	 */
+	long alignment() default 1;
+
+	/**
+	 * The characters that can separate the bytes, like {@code ":"} for {@code "0A:1B:2C"}
+	 * or {@code ":- "} for MAC addresses in any notation.
+	 * <p>
+	 * Each separator must stand between two bytes, so leading, trailing and repeated
+	 * separators are rejected. Separators must be ASCII characters other than hex digits.
+	 * Defaults to no separators. Ignored by the dump formats.
+	 * @return the characters that can separate the bytes
+	 */
+	String separators() default "";
+
+	/**
+	 * Whether whitespace between bytes, like spaces, tabs and line breaks of text blocks,
+	 * should be ignored.
+	 * <p>
+	 * Defaults to {@code false}. Ignored by the dump formats, which always ignore
+	 * whitespace between bytes.
+	 * @return {@code true} to ignore whitespace between bytes
+	 */
+	boolean ignoreWhitespace() default false;
+
+	/**
+	 * The layout of the input instances.
+	 * <p>
+	 * Defaults to {@link Format#PLAIN}.
+	 * @return the layout to use
+	 */
+	Format format() default Format.PLAIN;
+
+	/**
+	 * Layouts of hexadecimal input instances.
+	 */
+	enum Format {
+
+		/**
+		 * Hex digits, optionally prefixed by {@code 0x} and with the bytes separated as
+		 * configured by {@link Hex#separators} and {@link Hex#ignoreWhitespace}.
+		 */
+		PLAIN,
+
+		/**
+		 * The default output of {@code xxd}: lines made of an offset followed by a colon,
+		 * groups of hex digits separated by a space, and an ASCII column after two
+		 * spaces.
+		 */
+		XXD,
+
+		/**
+		 * The output of {@code hexdump -C}: lines made of an offset, hex digits separated
+		 * by spaces, and an ASCII column between {@code |} characters. Repeated lines
+		 * collapsed into {@code *} are not supported, see {@code hexdump -v}.
+		 */
+		HEXDUMP
+
+	}
+
 }
@@ -17,53 +17,187 @@ package io.github.scordio.junit.converters;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
-import org.junit.jupiter.params.converter.TypedArgumentConverter;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Objects;
 
-class HexArgumentConverter extends TypedArgumentConverter<String, byte[]> {
+class HexArgumentConverter extends ConfiguredArgumentConverter<Hex, HexArgumentConverter.Configuration> {
 
-	HexArgumentConverter() {
-		super(String.class, byte[].class);
+	@Override
+	public void accept(Hex annotation) {
+		configure(new Configuration(ByteBufferFactory.of(annotation.direct(), annotation.readOnly()),
+				SegmentFactory.of(annotation.alignment()), annotation.order() == Bytes.ByteOrder.BIG_ENDIAN,
+				HexTextDecoder.of(annotation)));
+	}
+
+	@Override
+	protected Configuration compose(Configuration configuration, AnnotatedElement element) {
+		Inflation inflation = Inflation.find(element);
+		Configuration scoped = configuration.withSegments(configuration.segments.within(element));
+		return inflation != null ? scoped.withInflation(inflation) : scoped;
 	}
 
 	@Override
-	protected byte[] convert(@Nullable String source) {
+	protected Object convert(@Nullable Object source, Class<?> targetType, Configuration configuration) {
 		Objects.requireNonNull(source, "'null' is not supported");
 
-		String hexString = getHexString(source);
+		Inflation inflation = configuration.inflation;
+		if (inflation != null) {
+			return inflation.convert(decodingStream(source, configuration.text), targetType, configuration.buffers);
+		}
+
+		HexTextDecoder text = configuration.text;
+		if (text != null) {
+			return convert(text, source, targetType, configuration);
+		}
+
+		NumericTarget numericTarget = NumericTarget.of(targetType);
+		if (numericTarget != null) {
+			return numericTarget.readHex(toCharSequence(source), configuration.bigEndian);
+		}
+
+		ByteBufferFactory buffers = configuration.buffers;
+		boolean cached = source instanceof String && PayloadCache.isEnabled();
+
+		if (targetType == byte[].class) {
+			return cached ? decodeShared((String) source).clone() : decode(source);
+		}
+		if (targetType == ByteBuffer.class) {
+			return cached ? buffers.wrapShared(decodeShared((String) source)) : buffers.wrap(decode(source));
+		}
+		if (SegmentFactory.isSegment(targetType)) {
+			return cached ? configuration.segments.wrap(decodeShared((String) source))
+					: decode(toCharSequence(source), configuration.segments);
+		}
+		if (targetType == InputStream.class) {
+			return decodingStream(source, null);
+		}
+		if (targetType == ReadableByteChannel.class) {
+			return Channels.newChannel(decodingStream(source, null));
+		}
+
+		throw new ArgumentConversionException(
+				String.format("Target type %s is not supported", targetType.getTypeName()));
+	}
 
-		int length = hexString.length();
-		if (length % 2 != 0) {
-			throw new ArgumentConversionException("Hex string must have even length");
+	private static Object convert(HexTextDecoder text, Object source, Class<?> targetType,
+			Configuration configuration) {
+		if (targetType == InputStream.class) {
+			return decodingStream(source, text);
+		}
+		if (targetType == ReadableByteChannel.class) {
+			return Channels.newChannel(decodingStream(source, text));
 		}
 
-		byte[] bytes = new byte[length / 2];
-		for (int i = 0; i < length; i += 2) {
-			int hi = getDigit(hexString, i);
-			int lo = getDigit(hexString, i + 1);
-			bytes[i / 2] = (byte) ((hi << 4) | lo);
+		byte[] bytes = text.decode(toCharSequence(source));
+		NumericTarget numericTarget = NumericTarget.of(targetType);
+		if (numericTarget != null) {
+			return numericTarget.readBuffer(ByteBuffer.wrap(bytes)
+				.order(configuration.bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN));
+		}
+		if (targetType == byte[].class) {
+			return bytes;
+		}
+		if (targetType == ByteBuffer.class) {
+			return configuration.buffers.wrap(bytes);
+		}
+		if (SegmentFactory.isSegment(targetType)) {
+			return configuration.segments.wrap(bytes);
+		}
+
+		throw new ArgumentConversionException(
+				String.format("Target type %s is not supported", targetType.getTypeName()));
+	}
+
+	static InputStream decodingStream(Object source, @Nullable HexTextDecoder text) {
+		return text != null ? text.wrap(toInputStream(source)) : new HexInputStream(toInputStream(source));
+	}
+
+	private static byte[] decode(Object source) {
+		if (source instanceof String) {
+			return HexDecoder.decode((String) source);
 		}
+		if (source instanceof byte[]) {
+			return HexDecoder.decode((byte[]) source);
+		}
+		throw unsupportedSource(source);
+	}
 
-		return bytes;
+	private static Object decode(CharSequence source, SegmentFactory segments) {
+		int offset = HexDecoder.getOffset(source);
+		ByteBuffer buffer = segments.allocate(HexDecoder.getDecodedLength(source.length(), offset));
+		return segments.flip(HexDecoder.decode(source, offset, buffer));
 	}
 
-	private static String getHexString(String source) {
-		if (source.startsWith("0x") || source.startsWith("0X")) {
-			if (source.length() > 2) {
-				return source.substring(2);
-			}
-			throw new ArgumentConversionException("Hex string must contain at least one hex digit after '0x' prefix");
+	private static byte[] decodeShared(String source) {
+		return PayloadCache.getInstance().get(HexArgumentConverter.class, null, source, HexDecoder::decode);
+	}
+
+	private static CharSequence toCharSequence(Object source) {
+		if (source instanceof String) {
+			return (String) source;
+		}
+		if (source instanceof byte[]) {
+			return HexDecoder.asCharSequence((byte[]) source);
 		}
-		return source;
+		throw unsupportedSource(source);
+	}
+
+	private static InputStream toInputStream(Object source) {
+		if (source instanceof String) {
+			return new StringInputStream((String) source);
+		}
+		if (source instanceof byte[]) {
+			return new ByteArrayInputStream((byte[]) source);
+		}
+		throw unsupportedSource(source);
+	}
+
+	private static ArgumentConversionException unsupportedSource(Object source) {
+		return new ArgumentConversionException(
+				String.format("Source type %s is not supported", source.getClass().getTypeName()));
 	}
 
-	private static int getDigit(String source, int index) {
-		int digit = Character.digit(source.charAt(index), 16);
-		if (digit == -1) {
-			throw new ArgumentConversionException("Invalid hex character at position " + index);
+	static final class Configuration {
+
+		private final ByteBufferFactory buffers;
+
+		private final SegmentFactory segments;
+
+		private final boolean bigEndian;
+
+		private final @Nullable HexTextDecoder text;
+
+		private final @Nullable Inflation inflation;
+
+		private Configuration(ByteBufferFactory buffers, SegmentFactory segments, boolean bigEndian,
+				@Nullable HexTextDecoder text) {
+			this(buffers, segments, bigEndian, text, null);
 		}
-		return digit;
+
+		private Configuration(ByteBufferFactory buffers, SegmentFactory segments, boolean bigEndian,
+				@Nullable HexTextDecoder text, @Nullable Inflation inflation) {
+			this.buffers = buffers;
+			this.segments = segments;
+			this.bigEndian = bigEndian;
+			this.text = text;
+			this.inflation = inflation;
+		}
+
+		private Configuration withInflation(Inflation inflation) {
+			return new Configuration(buffers, segments, bigEndian, text, inflation);
+		}
+
+		private Configuration withSegments(SegmentFactory segments) {
+			return segments != this.segments ? new Configuration(buffers, segments, bigEndian, text, inflation) : this;
+		}
+
 	}
 
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Table-driven decoder of hexadecimal digits, working directly on {@link String} or
+ * ASCII-encoded {@code byte[]} and {@link ByteBuffer} sources.
+ */
+final class HexDecoder {
+
+	private static final int INVALID = -1;
+
+	private static final byte[] NIBBLES = new byte[256];
+
+	static {
+		Arrays.fill(NIBBLES, (byte) INVALID);
+		for (int i = 0; i < 10; i++) {
+			NIBBLES['0' + i] = (byte) i;
+		}
+		for (int i = 0; i < 6; i++) {
+			NIBBLES['a' + i] = (byte) (10 + i);
+			NIBBLES['A' + i] = (byte) (10 + i);
+		}
+	}
+
+	private HexDecoder() {
+	}
+
+	static byte[] decode(String source) {
+		int offset = source.startsWith("0x") || source.startsWith("0X") ? getPrefixLength(source.length()) : 0;
+		int length = getDecodedLength(source.length(), offset);
+
+		if (ParallelDecoding.isApplicable(source.length())) {
+			byte[] bytes = new byte[length];
+			if (ParallelDecoding.decode(length, (from, to) -> decode(source, offset, bytes, from, to))) {
+				return bytes;
+			}
+		}
+
+		byte[] bytes = HexDigits.decode(source, offset);
+		if (bytes == null) {
+			throw invalidCharacter(indexOfInvalid(source, offset), offset);
+		}
+
+		return bytes;
+	}
+
+	static byte[] decode(byte[] source) {
+		int offset = hasPrefix(source) ? getPrefixLength(source.length) : 0;
+		byte[] bytes = new byte[getDecodedLength(source.length, offset)];
+
+		if (ParallelDecoding.isApplicable(source.length)
+				&& ParallelDecoding.decode(bytes.length, (from, to) -> decode(source, offset, bytes, from, to))) {
+			return bytes;
+		}
+
+		for (int i = offset, j = 0; j < bytes.length; i += 2, j++) {
+			int hi = NIBBLES[source[i] & 0xFF];
+			int lo = NIBBLES[source[i + 1] & 0xFF];
+			if ((hi | lo) < 0) {
+				throw invalidCharacter(hi < 0 ? i : i + 1, offset);
+			}
+			bytes[j] = (byte) ((hi << 4) | lo);
+		}
+
+		return bytes;
+	}
+
+	static byte[] decode(ByteBuffer source) {
+		int start = source.position();
+		int offset = hasPrefix(source) ? getPrefixLength(source.remaining()) : 0;
+		byte[] bytes = new byte[getDecodedLength(source.remaining(), offset)];
+
+		for (int i = offset, j = 0; j < bytes.length; i += 2, j++) {
+			int hi = NIBBLES[source.get(start + i) & 0xFF];
+			int lo = NIBBLES[source.get(start + i + 1) & 0xFF];
+			if ((hi | lo) < 0) {
+				throw invalidCharacter(hi < 0 ? i : i + 1, offset);
+			}
+			bytes[j] = (byte) ((hi << 4) | lo);
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Decode the supplied hex digits straight into the supplied buffer.
+	 * @param source the hex digits
+	 * @param offset the length of the {@code 0x} prefix, if any
+	 * @param target the buffer to write, with enough remaining space for the decoded
+	 * bytes
+	 * @return the target buffer
+	 */
+	static ByteBuffer decode(CharSequence source, int offset, ByteBuffer target) {
+		int length = getDecodedLength(source.length(), offset);
+
+		for (int i = offset, j = 0; j < length; i += 2, j++) {
+			int hi = nibble(source.charAt(i));
+			int lo = nibble(source.charAt(i + 1));
+			if ((hi | lo) < 0) {
+				throw invalidCharacter(hi < 0 ? i : i + 1, offset);
+			}
+			target.put((byte) ((hi << 4) | lo));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Decode a range of bytes from the supplied hex digits, without locating the invalid
+	 * digits.
+	 * @param source the hex digits
+	 * @param offset the length of the {@code 0x} prefix, if any
+	 * @param target the array of all the decoded bytes
+	 * @param from the index of the first byte to decode, inclusive
+	 * @param to the index of the last byte to decode, exclusive
+	 * @return {@code true} if all the digits are valid
+	 */
+	private static boolean decode(String source, int offset, byte[] target, int from, int to) {
+		for (int i = offset + 2 * from, j = from; j < to; i += 2, j++) {
+			int hi = nibble(source.charAt(i));
+			int lo = nibble(source.charAt(i + 1));
+			if ((hi | lo) < 0) {
+				return false;
+			}
+			target[j] = (byte) ((hi << 4) | lo);
+		}
+		return true;
+	}
+
+	private static boolean decode(byte[] source, int offset, byte[] target, int from, int to) {
+		for (int i = offset + 2 * from, j = from; j < to; i += 2, j++) {
+			int hi = NIBBLES[source[i] & 0xFF];
+			int lo = NIBBLES[source[i + 1] & 0xFF];
+			if ((hi | lo) < 0) {
+				return false;
+			}
+			target[j] = (byte) ((hi << 4) | lo);
+		}
+		return true;
+	}
+
+	/**
+	 * Decode the bits of a value of the supplied size in bytes, reading its hex digits
+	 * straight from the source.
+	 * @param source the hex digits
+	 * @param offset the length of the {@code 0x} prefix, if any
+	 * @param position the position of the first digit of the value, after the prefix
+	 * @param size the size of the value in bytes, at most 8
+	 * @param bigEndian whether the bytes of the value are in big-endian order
+	 * @return the bits of the value
+	 */
+	static long decodeBits(CharSequence source, int offset, int position, int size, boolean bigEndian) {
+		int index = offset + position;
+		long bits;
+		try {
+			bits = HexDigits.decodeBits(source, index, 2 * size);
+		}
+		catch (IllegalArgumentException e) {
+			throw invalidCharacter(indexOfInvalid(source, index), offset);
+		}
+		return bigEndian ? bits : Long.reverseBytes(bits) >>> (8 * (Long.BYTES - size));
+	}
+
+	/**
+	 * Expose ASCII-encoded hex digits as a {@link CharSequence}, without copying them.
+	 * @param source the ASCII-encoded hex digits
+	 * @return the hex digits
+	 */
+	static CharSequence asCharSequence(byte[] source) {
+		return new AsciiCharSequence(source, 0, source.length);
+	}
+
+	/**
+	 * Return the length of the {@code 0x} prefix of the supplied hex digits.
+	 * @param source the hex digits
+	 * @return the length of the prefix, or zero if there is no prefix
+	 */
+	static int getOffset(CharSequence source) {
+		boolean prefixed = source.length() >= 2 && source.charAt(0) == '0'
+				&& (source.charAt(1) == 'x' || source.charAt(1) == 'X');
+		return prefixed ? getPrefixLength(source.length()) : 0;
+	}
+
+	private static int indexOfInvalid(CharSequence source, int index) {
+		int i = index;
+		while (nibble(source.charAt(i)) >= 0) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Return the value of the supplied hex digit.
+	 * @param c the hex digit
+	 * @return the value of the digit, or a negative value if it is not a hex digit
+	 */
+	static int nibble(char c) {
+		return c < NIBBLES.length ? NIBBLES[c] : INVALID;
+	}
+
+	/**
+	 * Return the value of the supplied ASCII hex digit.
+	 * @param b the hex digit
+	 * @return the value of the digit, or a negative value if it is not a hex digit
+	 */
+	static int nibble(byte b) {
+		return NIBBLES[b & 0xFF];
+	}
+
+	private static boolean hasPrefix(byte[] source) {
+		return source.length >= 2 && source[0] == '0' && (source[1] == 'x' || source[1] == 'X');
+	}
+
+	private static boolean hasPrefix(ByteBuffer source) {
+		int start = source.position();
+		return source.remaining() >= 2 && source.get(start) == '0'
+				&& (source.get(start + 1) == 'x' || source.get(start + 1) == 'X');
+	}
+
+	private static int getPrefixLength(int length) {
+		if (length == 2) {
+			throw new ArgumentConversionException("Hex string must contain at least one hex digit after '0x' prefix");
+		}
+		return 2;
+	}
+
+	static int getDecodedLength(int length, int offset) {
+		if ((length - offset) % 2 != 0) {
+			throw new ArgumentConversionException("Hex string must have even length");
+		}
+		return (length - offset) / 2;
+	}
+
+	private static ArgumentConversionException invalidCharacter(int index, int offset) {
+		return new ArgumentConversionException("Invalid hex character at position " + (index - offset));
+	}
+
+	private static final class AsciiCharSequence implements CharSequence {
+
+		private final byte[] bytes;
+
+		private final int start;
+
+		private final int end;
+
+		private AsciiCharSequence(byte[] bytes, int start, int end) {
+			this.bytes = bytes;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (bytes[start + index] & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new AsciiCharSequence(bytes, this.start + start, this.start + end);
+		}
+
+		@Override
+		public String toString() {
+			return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+class HexFileArgumentConverter extends ConfiguredArgumentConverter<HexFile, HexFileArgumentConverter.Configuration> {
+
+	@Override
+	public void accept(HexFile annotation) {
+		configure(new Configuration(ByteBufferFactory.of(annotation.direct(), annotation.readOnly())));
+	}
+
+	@Override
+	protected Object convert(@Nullable Object source, Class<?> targetType, Configuration configuration) {
+		Objects.requireNonNull(source, "'null' is not supported");
+
+		if (targetType == byte[].class) {
+			return decode(source);
+		}
+		if (targetType == ByteBuffer.class) {
+			return configuration.buffers.wrap(decode(source));
+		}
+
+		throw new ArgumentConversionException(
+				String.format("Target type %s is not supported", targetType.getTypeName()));
+	}
+
+	private static byte[] decode(Object source) {
+		return FileContents.read(source, content -> HexDecoder.decode(FileContents.trimTrailingWhitespace(content)));
+	}
+
+	static final class Configuration {
+
+		private final ByteBufferFactory buffers;
+
+		private Configuration(ByteBufferFactory buffers) {
+			this.buffers = buffers;
+		}
+
+	}
+
+}
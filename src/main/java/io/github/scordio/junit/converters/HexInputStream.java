@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link InputStream} decoding the hexadecimal digits of another stream incrementally, as
+ * the decoded bytes are read.
+ * <p>
+ * The same rules as {@link HexDecoder} apply. Malformed input is reported with an
+ * {@link IOException} when reached, like the streams returned by
+ * {@link java.util.Base64.Decoder#wrap(InputStream)}.
+ */
+final class HexInputStream extends InputStream {
+
+	private final InputStream source;
+
+	private final byte[] buffer = new byte[8192];
+
+	private int start;
+
+	private int end;
+
+	private boolean started;
+
+	private long position;
+
+	private boolean eof;
+
+	HexInputStream(InputStream source) {
+		this.source = source;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!started) {
+			skipPrefix();
+		}
+		return end - start >= 2 || fill(2) ? decode() : endOfStream();
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		if (!started) {
+			skipPrefix();
+		}
+
+		int count = 0;
+		while (count < len && (end - start >= 2 || (count == 0 && fill(2)))) {
+			b[off + count++] = (byte) decode();
+		}
+		return count > 0 ? count : endOfStream();
+	}
+
+	/**
+	 * Decode the next buffered pair of digits.
+	 * @return the decoded byte, as an {@code int} in the range {@code 0} to {@code 255}
+	 */
+	private int decode() throws IOException {
+		int hi = HexDecoder.nibble(buffer[start]);
+		int lo = HexDecoder.nibble(buffer[start + 1]);
+		if ((hi | lo) < 0) {
+			throw new IOException("Invalid hex character at position " + (hi < 0 ? position : position + 1));
+		}
+		start += 2;
+		position += 2;
+		return (hi << 4) | lo;
+	}
+
+	private int endOfStream() throws IOException {
+		if (start != end) {
+			throw new IOException("Hex string must have even length");
+		}
+		return -1;
+	}
+
+	@Override
+	public int available() {
+		return (end - start) / 2;
+	}
+
+	@Override
+	public void close() throws IOException {
+		source.close();
+	}
+
+	private void skipPrefix() throws IOException {
+		started = true;
+		if (fill(2) && buffer[start] == '0' && (buffer[start + 1] == 'x' || buffer[start + 1] == 'X')) {
+			start += 2;
+			if (!fill(1)) {
+				throw new IOException("Hex string must contain at least one hex digit after '0x' prefix");
+			}
+		}
+	}
+
+	/**
+	 * Read from the source until at least the supplied number of bytes is buffered or the
+	 * source is exhausted.
+	 * @param min the minimum number of buffered bytes
+	 * @return {@code true} if at least {@code min} bytes are buffered
+	 */
+	private boolean fill(int min) throws IOException {
+		if (end - start < min && start > 0) {
+			System.arraycopy(buffer, start, buffer, 0, end - start);
+			end -= start;
+			start = 0;
+		}
+		while (end - start < min && !eof) {
+			int read = source.read(buffer, end, buffer.length - end);
+			if (read == -1) {
+				eof = true;
+			}
+			else {
+				end += read;
+			}
+		}
+		return end - start >= min;
+	}
+
+}
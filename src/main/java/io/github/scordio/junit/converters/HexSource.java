@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @HexSource} is an {@link ArgumentsSource} that provides the arguments stored as
+ * hexadecimal values in test vector files, decoded into {@code byte[]} instances like
+ * {@link Hex} does.
+ * <p>
+ * The files are classpath resources or file paths, read lazily one line at a time: the
+ * arguments of an invocation are decoded only when the invocation is about to run.
+ * <p>
+ * Without {@link #fields}, each line provides the arguments of one invocation, as values
+ * separated by whitespace. With {@link #fields}, the files follow the format of the NIST
+ * test vectors: records of {@code NAME = VALUE} lines separated by blank lines, and
+ * {@code [SECTION]} lines grouping the records. Each record holding the fields provides
+ * one invocation, with the fields in the declared order. The records holding none of the
+ * fields are skipped.
+ * <p>
+ * In both formats, the lines starting with {@code #} are comments.
+ *
+ * @see Hex
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(HexArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface HexSource {
+
+	/**
+	 * The locations of the files, resolved first as classpath resources and then as file
+	 * paths.
+	 * @return the locations of the files
+	 */
+	String[] value();
+
+	/**
+	 * The names of the fields providing the arguments, in the order of the parameters.
+	 * <p>
+	 * Defaults to no fields, reading each line as the arguments of an invocation.
+	 * @return the names of the fields
+	 */
+	String[] fields() default {};
+
+	/**
+	 * The name of the section holding the records, like {@code ENCRYPT} for the records
+	 * following the {@code [ENCRYPT]} line.
+	 * <p>
+	 * Defaults to an empty name, providing the records of all the sections. Ignored when
+	 * no {@link #fields} are declared.
+	 * @return the name of the section
+	 */
+	String section() default "";
+
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import io.github.scordio.junit.converters.Hex.Format;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Decoder of hexadecimal text laid out for humans: bytes separated by configured
+ * characters or whitespace, or dumps produced by {@code xxd} and {@code hexdump -C}.
+ * <p>
+ * The text is parsed in a single pass, one character at a time, by a state machine that
+ * skips the separators, offsets and ASCII columns in the same pass that decodes the hex
+ * digits, without intermediate copies of the source. Each separator must stand between
+ * two bytes, while whitespace is accepted anywhere outside of a byte.
+ */
+final class HexTextDecoder {
+
+	private static final int NONE = -1;
+
+	private static final byte INVALID = -1;
+
+	private static final byte SKIP = -2;
+
+	private static final byte SEPARATOR = -3;
+
+	private final Format format;
+
+	// the values of the hex digits, SKIP for the ignored characters and SEPARATOR for the
+	// characters accepted once between bytes
+	private final byte[] table = new byte[256];
+
+	private HexTextDecoder(Format format, String separators, boolean ignoreWhitespace) {
+		this.format = format;
+		Arrays.fill(table, INVALID);
+		if (format == Format.PLAIN) {
+			for (int i = 0; i < separators.length(); i++) {
+				table[separators.charAt(i)] = SEPARATOR;
+			}
+		}
+		if (format != Format.PLAIN || ignoreWhitespace) {
+			for (char c : new char[] { ' ', '\t', '\n', '\r', '\f' }) {
+				table[c] = SKIP;
+			}
+		}
+		for (int i = 0; i < 256; i++) {
+			int nibble = HexDecoder.nibble((byte) i);
+			if (nibble >= 0) {
+				table[i] = (byte) nibble;
+			}
+		}
+	}
+
+	/**
+	 * Return the decoder matching the supplied annotation.
+	 * @param annotation the annotation to read
+	 * @return the decoder, or {@code null} if the annotation configures plain hexadecimal
+	 * digits
+	 * @throws IllegalArgumentException if a separator is a hex digit or not an ASCII
+	 * character
+	 */
+	static @Nullable HexTextDecoder of(Hex annotation) {
+		String separators = annotation.separators();
+		for (int i = 0; i < separators.length(); i++) {
+			char c = separators.charAt(i);
+			if (c > 0x7F || HexDecoder.nibble(c) >= 0) {
+				throw new IllegalArgumentException(
+						String.format("Separator '%s' must be an ASCII character other than a hex digit", c));
+			}
+		}
+		if (annotation.format() == Format.PLAIN && separators.isEmpty() && !annotation.ignoreWhitespace()) {
+			return null;
+		}
+		return new HexTextDecoder(annotation.format(), separators, annotation.ignoreWhitespace());
+	}
+
+	/**
+	 * Decode the supplied text.
+	 * @param source the text
+	 * @return the decoded bytes
+	 */
+	byte[] decode(CharSequence source) {
+		int offset = format == Format.PLAIN ? HexDecoder.getOffset(source) : 0;
+		byte[] bytes = new byte[(source.length() - offset) / 2];
+		Parser parser = new Parser();
+		int length = 0;
+		for (int i = offset; i < source.length(); i++) {
+			int b = parser.accept(source.charAt(i));
+			if (b != NONE) {
+				bytes[length++] = (byte) b;
+			}
+		}
+		parser.finish();
+		return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+	}
+
+	/**
+	 * Wrap the supplied stream of ASCII text, decoding it as the decoded bytes are read.
+	 * Malformed text is reported with an {@link IOException} when reached.
+	 * @param source the stream of the text
+	 * @return the stream of the decoded bytes
+	 */
+	InputStream wrap(InputStream source) {
+		return new DecodingInputStream(source);
+	}
+
+	private enum State {
+
+		/** Reading the hex digits, or the whitespace and separators between them. */
+		DIGITS,
+
+		/** Skipping the whitespace at the start of a dump line. */
+		LINE_START,
+
+		/** Reading the offset of a dump line. */
+		OFFSET,
+
+		/** Skipping the ASCII column of a dump line. */
+		ASCII
+
+	}
+
+	/**
+	 * State of a single decoding, fed one character at a time.
+	 */
+	private final class Parser {
+
+		private State state = format == Format.PLAIN ? State.DIGITS : State.LINE_START;
+
+		private int pending = NONE;
+
+		private boolean afterSpace;
+
+		// whether a byte was completed since the last separator, if any
+		private boolean afterByte;
+
+		private long separatorIndex = NONE;
+
+		private long position;
+
+		private int line = 1;
+
+		/**
+		 * Accept the next character.
+		 * @param c the character
+		 * @return the decoded byte, or {@code NONE} if the character completes no byte
+		 * @throws ArgumentConversionException if the character is not valid
+		 */
+		int accept(char c) {
+			long index = position++;
+			int value = c < 256 ? table[c] : INVALID;
+			switch (state) {
+				case DIGITS:
+					if (value >= 0) {
+						afterSpace = false;
+						if (pending == NONE) {
+							pending = value;
+							return NONE;
+						}
+						int b = (pending << 4) | value;
+						pending = NONE;
+						afterByte = true;
+						separatorIndex = NONE;
+						return b;
+					}
+					if (format != Format.PLAIN
+							&& (c == '\n' || (format == Format.XXD ? afterSpace && c == ' ' : c == '|'))) {
+						// end of the hex column
+						checkComplete(index);
+						state = c == '\n' ? nextLine() : State.ASCII;
+						return NONE;
+					}
+					if (value == SKIP) {
+						checkComplete(index);
+						afterSpace = c == ' ';
+						return NONE;
+					}
+					if (value == SEPARATOR && afterByte && pending == NONE) {
+						afterByte = false;
+						separatorIndex = index;
+						return NONE;
+					}
+					throw invalidCharacter(index);
+				case LINE_START:
+					if (c == '\n') {
+						nextLine();
+					}
+					else if (value >= 0) {
+						state = State.OFFSET;
+					}
+					else if (c == '*') {
+						throw new ArgumentConversionException(String.format(
+								"Repeated lines are not supported, found '*' at line %d: dump every line, like with 'hexdump -v -C'",
+								line));
+					}
+					else if (value != SKIP) {
+						throw invalidCharacter(index);
+					}
+					return NONE;
+				case OFFSET:
+					if (value >= 0) {
+						return NONE;
+					}
+					if (format == Format.XXD ? c == ':' : c == ' ' || c == '\t') {
+						state = State.DIGITS;
+						afterSpace = false;
+					}
+					else if (c == '\n') {
+						// the last line of hexdump holds the final offset only
+						state = nextLine();
+					}
+					else if (format == Format.XXD || c != '\r') {
+						throw invalidCharacter(index);
+					}
+					return NONE;
+				default: // ASCII
+					if (c == '\n') {
+						state = nextLine();
+					}
+					return NONE;
+			}
+		}
+
+		/**
+		 * Complete the decoding.
+		 * @throws ArgumentConversionException if the last byte is incomplete or followed
+		 * by a separator
+		 */
+		void finish() {
+			if (pending != NONE) {
+				throw new ArgumentConversionException("Hex string must have even length");
+			}
+			if (separatorIndex != NONE) {
+				throw invalidCharacter(separatorIndex);
+			}
+		}
+
+		private State nextLine() {
+			line++;
+			return State.LINE_START;
+		}
+
+		private void checkComplete(long index) {
+			if (pending != NONE) {
+				throw invalidCharacter(index);
+			}
+		}
+
+		private ArgumentConversionException invalidCharacter(long index) {
+			return new ArgumentConversionException("Invalid hex character at position " + index);
+		}
+
+	}
+
+	private final class DecodingInputStream extends InputStream {
+
+		private final InputStream source;
+
+		private final byte[] buffer = new byte[8192];
+
+		private final Parser parser = new Parser();
+
+		private int start;
+
+		private int end;
+
+		private boolean started;
+
+		private boolean eof;
+
+		private DecodingInputStream(InputStream source) {
+			this.source = source;
+		}
+
+		@Override
+		public int read() throws IOException {
+			try {
+				if (!started) {
+					skipPrefix();
+				}
+				while (fill(1)) {
+					int decoded = parser.accept((char) (buffer[start++] & 0xFF));
+					if (decoded != NONE) {
+						return decoded;
+					}
+				}
+				parser.finish();
+				return -1;
+			}
+			catch (ArgumentConversionException e) {
+				throw new IOException(e.getMessage(), e);
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (off < 0 || len < 0 || len > b.length - off) {
+				throw new IndexOutOfBoundsException();
+			}
+			if (len == 0) {
+				return 0;
+			}
+			try {
+				if (!started) {
+					skipPrefix();
+				}
+				int count = 0;
+				while (count < len && fill(1)) {
+					int decoded = parser.accept((char) (buffer[start++] & 0xFF));
+					if (decoded != NONE) {
+						b[off + count++] = (byte) decoded;
+					}
+				}
+				if (count == 0) {
+					parser.finish();
+					return -1;
+				}
+				return count;
+			}
+			catch (ArgumentConversionException e) {
+				throw new IOException(e.getMessage(), e);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			source.close();
+		}
+
+		private void skipPrefix() throws IOException {
+			started = true;
+			if (format == Format.PLAIN && fill(2) && buffer[start] == '0'
+					&& (buffer[start + 1] == 'x' || buffer[start + 1] == 'X')) {
+				start += 2;
+				if (!fill(1)) {
+					throw new IOException("Hex string must contain at least one hex digit after '0x' prefix");
+				}
+			}
+		}
+
+		private boolean fill(int min) throws IOException {
+			if (end - start < min && start > 0) {
+				System.arraycopy(buffer, start, buffer, 0, end - start);
+				end -= start;
+				start = 0;
+			}
+			while (end - start < min && !eof) {
+				int read = source.read(buffer, end, buffer.length - end);
+				if (read == -1) {
+					eof = true;
+				}
+				else {
+					end += read;
+				}
+			}
+			return end - start >= min;
+		}
+
+	}
+
+}
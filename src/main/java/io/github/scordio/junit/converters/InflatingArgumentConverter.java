@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Base class of the converters decompressing their input instances, which can be decoded
+ * first by a {@link Hex} or {@link Base64} annotation combined on the same element.
+ *
+ * @param <A> the type of the annotation
+ */
+abstract class InflatingArgumentConverter<A extends Annotation>
+		extends ConfiguredArgumentConverter<A, InflatingArgumentConverter.Configuration> {
+
+	@Override
+	protected Configuration compose(Configuration configuration, AnnotatedElement element) {
+		// fails if both @Gzip and @Deflate are present
+		Inflation.find(element);
+
+		Optional<Hex> hex = AnnotationSupport.findAnnotation(element, Hex.class);
+		Optional<Base64> base64 = AnnotationSupport.findAnnotation(element, Base64.class);
+		if (hex.isPresent() && base64.isPresent()) {
+			throw new IllegalArgumentException("@Hex and @Base64 cannot be combined");
+		}
+		if (hex.isPresent()) {
+			HexTextDecoder text = HexTextDecoder.of(hex.get());
+			return new Configuration(configuration.inflation,
+					source -> HexArgumentConverter.decodingStream(source, text),
+					ByteBufferFactory.of(hex.get().direct(), hex.get().readOnly()));
+		}
+		if (base64.isPresent()) {
+			Base64Decoder decoder = Base64Decoder.of(base64.get().encoding(), base64.get().ignoreWhitespace());
+			return new Configuration(configuration.inflation,
+					source -> Base64ArgumentConverter.decodingStream(source, decoder),
+					ByteBufferFactory.of(base64.get().direct(), base64.get().readOnly()));
+		}
+		return configuration;
+	}
+
+	@Override
+	protected Object convert(@Nullable Object source, Class<?> targetType, Configuration configuration) {
+		Objects.requireNonNull(source, "'null' is not supported");
+
+		Function<Object, InputStream> decoding = configuration.decoding;
+		InputStream input = decoding != null ? decoding.apply(source) : toInputStream(source);
+		return configuration.inflation.convert(input, targetType, configuration.buffers);
+	}
+
+	private static InputStream toInputStream(Object source) {
+		if (source instanceof byte[]) {
+			return new ByteArrayInputStream((byte[]) source);
+		}
+		if (source instanceof InputStream) {
+			return (InputStream) source;
+		}
+		throw new ArgumentConversionException(
+				String.format("Source type %s is not supported", source.getClass().getTypeName()));
+	}
+
+	static final class Configuration {
+
+		private final Inflation inflation;
+
+		private final @Nullable Function<Object, InputStream> decoding;
+
+		private final ByteBufferFactory buffers;
+
+		Configuration(Inflation inflation) {
+			this(inflation, null, ByteBufferFactory.of(false, false));
+		}
+
+		private Configuration(Inflation inflation, @Nullable Function<Object, InputStream> decoding,
+				ByteBufferFactory buffers) {
+			this.inflation = inflation;
+			this.decoding = decoding;
+			this.buffers = buffers;
+		}
+
+	}
+
+}
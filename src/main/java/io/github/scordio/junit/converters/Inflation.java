@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decompression stage configured by {@link Gzip} and {@link Deflate}, applied to the
+ * input instances or to the streams decoding them.
+ */
+final class Inflation {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final Inflation GZIP = new Inflation(true, false);
+
+	private static final Inflation ZLIB = new Inflation(false, false);
+
+	private static final Inflation RAW = new Inflation(false, true);
+
+	private final boolean gzip;
+
+	private final boolean nowrap;
+
+	private Inflation(boolean gzip, boolean nowrap) {
+		this.gzip = gzip;
+		this.nowrap = nowrap;
+	}
+
+	static Inflation gzip() {
+		return GZIP;
+	}
+
+	static Inflation deflate(boolean nowrap) {
+		return nowrap ? RAW : ZLIB;
+	}
+
+	/**
+	 * Find the decompression configured on the supplied element.
+	 * @param element the parameter or field being converted
+	 * @return the decompression, or {@code null} if the element is annotated with neither
+	 * {@link Gzip} nor {@link Deflate}
+	 */
+	static @Nullable Inflation find(AnnotatedElement element) {
+		Optional<Gzip> gzip = AnnotationSupport.findAnnotation(element, Gzip.class);
+		Optional<Deflate> deflate = AnnotationSupport.findAnnotation(element, Deflate.class);
+		if (gzip.isPresent() && deflate.isPresent()) {
+			throw new IllegalArgumentException("@Gzip and @Deflate cannot be combined");
+		}
+		if (gzip.isPresent()) {
+			return GZIP;
+		}
+		return deflate.isPresent() ? deflate(deflate.get().nowrap()) : null;
+	}
+
+	/**
+	 * Decompress the supplied stream into the supplied target type.
+	 * @param source the compressed stream
+	 * @param targetType the target type
+	 * @param buffers the factory of {@code ByteBuffer} targets
+	 * @return the decompressed content, read upfront unless a stream or channel is
+	 * requested
+	 */
+	Object convert(InputStream source, Class<?> targetType, ByteBufferFactory buffers) {
+		try {
+			if (targetType == byte[].class) {
+				return readAllBytes(source);
+			}
+			if (targetType == ByteBuffer.class) {
+				return buffers.wrap(readAllBytes(source));
+			}
+			if (targetType == InputStream.class) {
+				return inflate(source);
+			}
+			if (targetType == ReadableByteChannel.class) {
+				return Channels.newChannel(inflate(source));
+			}
+		}
+		catch (IOException e) {
+			throw new ArgumentConversionException(String.valueOf(e.getMessage()), e);
+		}
+
+		throw new ArgumentConversionException(
+				String.format("Target type %s is not supported", targetType.getTypeName()));
+	}
+
+	private byte[] readAllBytes(InputStream source) throws IOException {
+		try (InputStream inflated = inflate(source)) {
+			return FileContents.readAllBytes(inflated);
+		}
+	}
+
+	private InputStream inflate(InputStream source) throws IOException {
+		if (gzip) {
+			return new GZIPInputStream(source, BUFFER_SIZE);
+		}
+		Inflater inflater = new Inflater(nowrap);
+		return new InflaterInputStream(source, inflater, BUFFER_SIZE) {
+
+			@Override
+			public void close() throws IOException {
+				// streams created with their own inflater do not release it when closed
+				try {
+					super.close();
+				}
+				finally {
+					inflater.end();
+				}
+			}
+
+		};
+	}
+
+}
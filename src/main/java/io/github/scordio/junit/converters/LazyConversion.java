@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+/**
+ * {@link Supplier} target deferring a conversion to the first {@link #get()} and
+ * returning its result on subsequent calls.
+ * <p>
+ * A failed conversion is attempted again on the next call. After the conversion, the
+ * source is no longer referenced.
+ */
+final class LazyConversion implements Supplier<Object> {
+
+	private @Nullable Supplier<?> conversion;
+
+	private @Nullable Object value;
+
+	LazyConversion(Supplier<?> conversion) {
+		this.conversion = conversion;
+	}
+
+	@Override
+	public synchronized @Nullable Object get() {
+		Supplier<?> conversion = this.conversion;
+		if (conversion != null) {
+			this.value = conversion.get();
+			this.conversion = null;
+		}
+		return this.value;
+	}
+
+	@Override
+	public String toString() {
+		return this.conversion != null ? "LazyConversion[pending]" : "LazyConversion[" + this.value + "]";
+	}
+
+	/**
+	 * Whether the supplied target type requests a lazy conversion.
+	 * @param targetType the target type
+	 * @return {@code true} if the target type is {@link Supplier}
+	 */
+	static boolean isLazy(Class<?> targetType) {
+		return targetType == Supplier.class;
+	}
+
+	/**
+	 * Resolve the type supplied by the supplied {@link Supplier} target type.
+	 * @param genericType the generic target type, like {@code Supplier<byte[]>}
+	 * @return the raw type of the type argument
+	 * @throws ArgumentConversionException if the type argument is not declared or is not
+	 * a concrete type
+	 */
+	static Class<?> getSuppliedType(Type genericType) {
+		if (genericType instanceof ParameterizedType) {
+			Type suppliedType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+			if (suppliedType instanceof ParameterizedType) {
+				suppliedType = ((ParameterizedType) suppliedType).getRawType();
+			}
+			if (suppliedType instanceof Class) {
+				return (Class<?>) suppliedType;
+			}
+		}
+		throw new ArgumentConversionException(
+				String.format("Target type %s is not supported", genericType.getTypeName()));
+	}
+
+}
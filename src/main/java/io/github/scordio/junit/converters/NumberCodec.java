@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk conversions between primitive arrays and their binary representation in
+ * {@code byte[]} instances.
+ * <p>
+ * This implementation goes through {@link ByteBuffer} views. The multi-release JAR
+ * replaces it on Java 9 and later with an implementation based on byte array view
+ * {@link java.lang.invoke.VarHandle VarHandles}, which the JIT compiler turns into plain
+ * loads and stores.
+ */
+final class NumberCodec {
+
+	private NumberCodec() {
+	}
+
+	static byte[] toBytes(short[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Short.BYTES)];
+		wrap(bytes, 0, bytes.length, bigEndian).asShortBuffer().put(source);
+		return bytes;
+	}
+
+	static byte[] toBytes(int[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Integer.BYTES)];
+		wrap(bytes, 0, bytes.length, bigEndian).asIntBuffer().put(source);
+		return bytes;
+	}
+
+	static byte[] toBytes(long[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Long.BYTES)];
+		wrap(bytes, 0, bytes.length, bigEndian).asLongBuffer().put(source);
+		return bytes;
+	}
+
+	static byte[] toBytes(float[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Float.BYTES)];
+		wrap(bytes, 0, bytes.length, bigEndian).asFloatBuffer().put(source);
+		return bytes;
+	}
+
+	static byte[] toBytes(double[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Double.BYTES)];
+		wrap(bytes, 0, bytes.length, bigEndian).asDoubleBuffer().put(source);
+		return bytes;
+	}
+
+	static short[] toShorts(byte[] source, int offset, int length, boolean bigEndian) {
+		short[] array = new short[length];
+		wrap(source, offset, length * Short.BYTES, bigEndian).asShortBuffer().get(array);
+		return array;
+	}
+
+	static int[] toInts(byte[] source, int offset, int length, boolean bigEndian) {
+		int[] array = new int[length];
+		wrap(source, offset, length * Integer.BYTES, bigEndian).asIntBuffer().get(array);
+		return array;
+	}
+
+	static long[] toLongs(byte[] source, int offset, int length, boolean bigEndian) {
+		long[] array = new long[length];
+		wrap(source, offset, length * Long.BYTES, bigEndian).asLongBuffer().get(array);
+		return array;
+	}
+
+	static float[] toFloats(byte[] source, int offset, int length, boolean bigEndian) {
+		float[] array = new float[length];
+		wrap(source, offset, length * Float.BYTES, bigEndian).asFloatBuffer().get(array);
+		return array;
+	}
+
+	static double[] toDoubles(byte[] source, int offset, int length, boolean bigEndian) {
+		double[] array = new double[length];
+		wrap(source, offset, length * Double.BYTES, bigEndian).asDoubleBuffer().get(array);
+		return array;
+	}
+
+	private static ByteBuffer wrap(byte[] bytes, int offset, int length, boolean bigEndian) {
+		// views start at the position of the buffer, set to the offset
+		return ByteBuffer.wrap(bytes, offset, length).order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Numeric target types, read from binary content either through {@link ByteBuffer} views
+ * or straight from hexadecimal digits, without an intermediate {@code byte[]}.
+ * <p>
+ * Scalar targets require content of their exact size, while array targets require a
+ * multiple of their element size. {@link BigInteger} targets accept content of any size,
+ * interpreted as an unsigned magnitude.
+ */
+enum NumericTarget {
+
+	INT(int.class, Integer.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			return buffer.getInt(buffer.position());
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			return (int) HexDecoder.decodeBits(hex, offset, 0, Integer.BYTES, bigEndian);
+		}
+	},
+
+	LONG(long.class, Long.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			return buffer.getLong(buffer.position());
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			return HexDecoder.decodeBits(hex, offset, 0, Long.BYTES, bigEndian);
+		}
+	},
+
+	BIG_INTEGER(BigInteger.class, 1) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			byte[] magnitude = new byte[buffer.remaining()];
+			buffer.get(magnitude);
+			return toBigInteger(magnitude, isBigEndian(buffer));
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			byte[] magnitude = new byte[(hex.length() - offset) / 2];
+			for (int i = 0; i < magnitude.length; i++) {
+				magnitude[i] = (byte) HexDecoder.decodeBits(hex, offset, 2 * i, 1, true);
+			}
+			return toBigInteger(magnitude, bigEndian);
+		}
+	},
+
+	SHORT_ARRAY(short[].class, Short.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			if (buffer.hasArray()) {
+				return NumberCodec.toShorts(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining() / Short.BYTES, isBigEndian(buffer));
+			}
+			short[] array = new short[buffer.remaining() / Short.BYTES];
+			buffer.asShortBuffer().get(array);
+			return array;
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			short[] array = new short[(hex.length() - offset) / (2 * Short.BYTES)];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = (short) HexDecoder.decodeBits(hex, offset, 2 * Short.BYTES * i, Short.BYTES, bigEndian);
+			}
+			return array;
+		}
+	},
+
+	INT_ARRAY(int[].class, Integer.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			if (buffer.hasArray()) {
+				return NumberCodec.toInts(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining() / Integer.BYTES, isBigEndian(buffer));
+			}
+			int[] array = new int[buffer.remaining() / Integer.BYTES];
+			buffer.asIntBuffer().get(array);
+			return array;
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			int[] array = new int[(hex.length() - offset) / (2 * Integer.BYTES)];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = (int) HexDecoder.decodeBits(hex, offset, 2 * Integer.BYTES * i, Integer.BYTES, bigEndian);
+			}
+			return array;
+		}
+	},
+
+	LONG_ARRAY(long[].class, Long.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			if (buffer.hasArray()) {
+				return NumberCodec.toLongs(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining() / Long.BYTES, isBigEndian(buffer));
+			}
+			long[] array = new long[buffer.remaining() / Long.BYTES];
+			buffer.asLongBuffer().get(array);
+			return array;
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			long[] array = new long[(hex.length() - offset) / (2 * Long.BYTES)];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = HexDecoder.decodeBits(hex, offset, 2 * Long.BYTES * i, Long.BYTES, bigEndian);
+			}
+			return array;
+		}
+	},
+
+	FLOAT_ARRAY(float[].class, Float.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			if (buffer.hasArray()) {
+				return NumberCodec.toFloats(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining() / Float.BYTES, isBigEndian(buffer));
+			}
+			float[] array = new float[buffer.remaining() / Float.BYTES];
+			buffer.asFloatBuffer().get(array);
+			return array;
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			float[] array = new float[(hex.length() - offset) / (2 * Float.BYTES)];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = Float.intBitsToFloat(
+						(int) HexDecoder.decodeBits(hex, offset, 2 * Float.BYTES * i, Float.BYTES, bigEndian));
+			}
+			return array;
+		}
+	},
+
+	DOUBLE_ARRAY(double[].class, Double.BYTES) {
+		@Override
+		Object read(ByteBuffer buffer) {
+			if (buffer.hasArray()) {
+				return NumberCodec.toDoubles(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining() / Double.BYTES, isBigEndian(buffer));
+			}
+			double[] array = new double[buffer.remaining() / Double.BYTES];
+			buffer.asDoubleBuffer().get(array);
+			return array;
+		}
+
+		@Override
+		Object read(CharSequence hex, int offset, boolean bigEndian) {
+			double[] array = new double[(hex.length() - offset) / (2 * Double.BYTES)];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = Double.longBitsToDouble(
+						HexDecoder.decodeBits(hex, offset, 2 * Double.BYTES * i, Double.BYTES, bigEndian));
+			}
+			return array;
+		}
+	};
+
+	private final Class<?> type;
+
+	private final int size;
+
+	NumericTarget(Class<?> type, int size) {
+		this.type = type;
+		this.size = size;
+	}
+
+	/**
+	 * Return the numeric target matching the supplied target type, if any.
+	 * @param targetType the target type, possibly a wrapper type
+	 * @return the numeric target, or {@code null} if the target type is not numeric
+	 */
+	static @Nullable NumericTarget of(Class<?> targetType) {
+		Class<?> type = targetType == Integer.class ? int.class : targetType == Long.class ? long.class : targetType;
+		for (NumericTarget target : values()) {
+			if (target.type == type) {
+				return target;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Read the target value from the remaining content of the supplied buffer, using its
+	 * byte order. The buffer position is not modified.
+	 * @param buffer the buffer to read
+	 * @return the target value
+	 */
+	Object readBuffer(ByteBuffer buffer) {
+		checkSize(buffer.remaining());
+		return read(buffer.duplicate().order(buffer.order()));
+	}
+
+	/**
+	 * Read the target value from the supplied hexadecimal digits.
+	 * @param hex the hexadecimal digits, optionally prefixed by {@code 0x}
+	 * @param bigEndian whether multibyte values are in big-endian order
+	 * @return the target value
+	 */
+	Object readHex(CharSequence hex, boolean bigEndian) {
+		int offset = HexDecoder.getOffset(hex);
+		checkSize(HexDecoder.getDecodedLength(hex.length(), offset));
+		return read(hex, offset, bigEndian);
+	}
+
+	abstract Object read(ByteBuffer buffer);
+
+	abstract Object read(CharSequence hex, int offset, boolean bigEndian);
+
+	private void checkSize(int length) {
+		if (type.isArray() ? length % size != 0 : size > 1 && length != size) {
+			throw new ArgumentConversionException(String.format("%s %d bytes for target type %s but found %d",
+					type.isArray() ? "Expected a multiple of" : "Expected", size, type.getTypeName(), length));
+		}
+	}
+
+	private static boolean isBigEndian(ByteBuffer buffer) {
+		return buffer.order() == ByteOrder.BIG_ENDIAN;
+	}
+
+	private static BigInteger toBigInteger(byte[] magnitude, boolean bigEndian) {
+		if (!bigEndian) {
+			for (int i = 0, j = magnitude.length - 1; i < j; i++, j--) {
+				byte b = magnitude[i];
+				magnitude[i] = magnitude[j];
+				magnitude[j] = b;
+			}
+		}
+		return new BigInteger(1, magnitude);
+	}
+
+}
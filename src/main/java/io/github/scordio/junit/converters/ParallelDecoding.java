@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Decoding of large payloads in parallel chunks on the common fork-join pool, each chunk
+ * writing its own range of the same preallocated array.
+ * <p>
+ * Sources with at least as many characters as the configured threshold are decoded in
+ * parallel. A negative threshold disables the parallel decoding. Sources too short to be
+ * split into two chunks are always decoded sequentially, without reading the threshold.
+ */
+final class ParallelDecoding {
+
+	static final String THRESHOLD_PROPERTY_NAME = "junit.converters.parallel.threshold";
+
+	static final long DEFAULT_THRESHOLD = 16 * 1024 * 1024;
+
+	// chunks smaller than this number of units do not pay off the task overhead
+	private static final int MIN_CHUNK_UNITS = 8192;
+
+	// two chunks of hex digits, which have the shortest units
+	private static final int MIN_LENGTH = 2 * 2 * MIN_CHUNK_UNITS;
+
+	private ParallelDecoding() {
+	}
+
+	/**
+	 * Return whether a source of the supplied length should be decoded in parallel.
+	 * @param length the number of characters of the source
+	 * @return {@code true} if the source should be decoded in parallel
+	 */
+	static boolean isApplicable(int length) {
+		return length >= MIN_LENGTH && Threshold.VALUE >= 0 && length >= Threshold.VALUE;
+	}
+
+	/**
+	 * Decode the supplied number of units in parallel chunks.
+	 * <p>
+	 * Decoding stops at the first invalid chunk. Callers then decode the source again
+	 * sequentially, to report the first invalid character like the sequential decoding
+	 * would.
+	 * @param units the number of independent units, like bytes or Base64 quanta
+	 * @param decoder the decoder of a range of units
+	 * @return {@code true} if all the chunks are valid
+	 */
+	static boolean decode(int units, ChunkDecoder decoder) {
+		int chunks = (int) Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4L, units / MIN_CHUNK_UNITS));
+		return IntStream.range(0, chunks)
+			.parallel()
+			.allMatch(chunk -> decoder.decode((int) ((long) units * chunk / chunks),
+					(int) ((long) units * (chunk + 1) / chunks)));
+	}
+
+	private static final class Threshold {
+
+		private static final long VALUE = ConfigurationParameters.getLong(THRESHOLD_PROPERTY_NAME, DEFAULT_THRESHOLD);
+
+	}
+
+	/**
+	 * Decoder of a range of units, writing the decoded bytes to their final position.
+	 */
+	@FunctionalInterface
+	interface ChunkDecoder {
+
+		/**
+		 * Decode the units in the supplied range.
+		 * @param from the first unit, inclusive
+		 * @param to the last unit, exclusive
+		 * @return {@code true} if all the units are valid
+		 */
+		boolean decode(int from, int to);
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.params.converter.ConvertWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Payload} is a {@link ConvertWith} composed annotation that generates
+ * deterministic payloads, described by {@link String} specifications, into {@code byte[]}
+ * or {@link java.nio.ByteBuffer} instances.
+ * <p>
+ * Two forms of specification are supported:
+ * <ul>
+ * <li>{@code "size=64MiB, seed=42"} generates the given number of pseudo-random bytes.
+ * The optional {@code seed} defaults to {@code 0}, and the same specification always
+ * generates the same bytes, on any JVM: they are the little-endian representation of the
+ * values returned by a SplitMix64 generator initialized with the seed.</li>
+ * <li>{@code "0xDEADBEEF * 1M"} repeats the bytes of the hexadecimal pattern the given
+ * number of times.</li>
+ * </ul>
+ * Sizes and counts are non-negative decimal integers, optionally followed by one of the
+ * binary multipliers {@code K}, {@code M} and {@code G}, also written {@code KiB},
+ * {@code MiB} and {@code GiB}.
+ * <p>
+ * The {@link #direct} and {@link #readOnly} attributes configure the buffers produced for
+ * {@code ByteBuffer} targets.
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConvertWith(PayloadArgumentConverter.class)
+@SuppressWarnings("exports")
+public @interface Payload {
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be allocated as direct buffers.
+	 * <p>
+	 * Defaults to {@code false}, allocating heap buffers. Ignored by {@code byte[]}
+	 * targets.
+	 * @return {@code true} to allocate direct buffers
+	 * @see java.nio.ByteBuffer#allocateDirect(int)
+	 */
+	boolean direct() default false;
+
+	/**
+	 * Whether {@link java.nio.ByteBuffer} targets should be read-only.
+	 * <p>
+	 * Defaults to {@code false}. Ignored by {@code byte[]} targets.
+	 * @return {@code true} to produce read-only buffers
+	 * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+	 */
+	boolean readOnly() default false;
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Opt-in cache of decoded payloads, shared by all converter instances and keyed by
+ * converter, configuration and source.
+ * <p>
+ * The size of an entry is the length of its payload plus the length of its source, which
+ * the key keeps reachable. Once the total size of the entries exceeds the configured
+ * limit, entries are evicted in an approximation of least-recently-used order: a clock
+ * visits the entries in insertion order, giving a second chance to those accessed since
+ * its last visit. Cache hits are lock-free, only marking the entry as accessed, while
+ * insertions and evictions are serialized. The cached arrays are never handed out to
+ * tests directly: callers expose them either as copies or as read-only views.
+ * <p>
+ * The cache is configured with the following configuration parameters:
+ * <ul>
+ * <li>{@value #ENABLED_PROPERTY_NAME}: {@code true} to enable the cache, disabled by
+ * default</li>
+ * <li>{@value #MAX_BYTES_PROPERTY_NAME}: the maximum total size of the entries in bytes,
+ * {@value #DEFAULT_MAX_BYTES} by default</li>
+ * </ul>
+ *
+ * @see ConfigurationParameters
+ */
+final class PayloadCache {
+
+	static final String ENABLED_PROPERTY_NAME = "junit.converters.cache.enabled";
+
+	static final String MAX_BYTES_PROPERTY_NAME = "junit.converters.cache.max-bytes";
+
+	static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	// read apart from the cache state, so that checking it does not create the cache
+	private static final boolean ENABLED = ConfigurationParameters.getBoolean(ENABLED_PROPERTY_NAME, false);
+
+	private final long maxBytes;
+
+	private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	// ReentrantLock rather than synchronized, which pins virtual threads up to Java 23
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	// guarded by evictionLock
+	private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+
+	// guarded by evictionLock
+	private long totalBytes;
+
+	private PayloadCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Return the shared cache, created on the first call.
+	 * <p>
+	 * Callers must check {@link #isEnabled()} first.
+	 * @return the shared cache
+	 */
+	static PayloadCache getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Return the payload decoded from the supplied source, decoding and caching it if
+	 * absent.
+	 * <p>
+	 * The returned array is shared and must not be modified nor handed out to tests.
+	 * @param converter the converter decoding the source
+	 * @param configuration the configuration of the converter affecting the result, if
+	 * any
+	 * @param source the source to decode
+	 * @param decoder the function decoding the source
+	 * @return the shared decoded payload
+	 */
+	byte[] get(Class<?> converter, @Nullable Object configuration, String source, Function<String, byte[]> decoder) {
+		Key key = new Key(converter, configuration, source);
+
+		// hits take no lock, so that parallel invocations sharing payloads do not contend
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			if (!entry.accessed) {
+				entry.accessed = true;
+			}
+			return entry.payload;
+		}
+
+		// decode outside of any lock, at the cost of concurrent misses decoding twice
+		byte[] payload = decoder.apply(source);
+		long size = (long) payload.length + source.length();
+		if (size > maxBytes) {
+			return payload;
+		}
+
+		Entry created = new Entry(key, payload, size);
+		Entry previous = entries.putIfAbsent(key, created);
+		if (previous != null) {
+			return previous.payload;
+		}
+		add(created);
+		return payload;
+	}
+
+	private void add(Entry entry) {
+		evictionLock.lock();
+		try {
+			clock.addLast(entry);
+			totalBytes += entry.size;
+			while (totalBytes > maxBytes) {
+				Entry candidate = clock.removeFirst();
+				if (candidate.accessed) {
+					candidate.accessed = false;
+					clock.addLast(candidate);
+				}
+				else {
+					entries.remove(candidate.key, candidate);
+					totalBytes -= candidate.size;
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Entry {
+
+		private final Key key;
+
+		private final byte[] payload;
+
+		private final long size;
+
+		// written only when not set yet, to keep hits from contending on the entry
+		private volatile boolean accessed;
+
+		private Entry(Key key, byte[] payload, long size) {
+			this.key = key;
+			this.payload = payload;
+			this.size = size;
+		}
+
+	}
+
+	private static final class Key {
+
+		private final Class<?> converter;
+
+		private final @Nullable Object configuration;
+
+		private final String source;
+
+		private Key(Class<?> converter, @Nullable Object configuration, String source) {
+			this.converter = converter;
+			this.configuration = configuration;
+			this.source = source;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return converter == other.converter && Objects.equals(configuration, other.configuration)
+					&& source.equals(other.source);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(converter, configuration, source);
+		}
+
+	}
+
+	private static final class Holder {
+
+		private static final PayloadCache INSTANCE = new PayloadCache(
+				ConfigurationParameters.getLong(MAX_BYTES_PROPERTY_NAME, DEFAULT_MAX_BYTES));
+
+	}
+
+}
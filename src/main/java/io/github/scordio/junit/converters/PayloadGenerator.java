@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generator of the payloads described by {@link Payload} specifications, filling the
+ * generated arrays in bulk.
+ */
+final class PayloadGenerator {
+
+	// the largest array size supported by common JVMs
+	private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final Pattern SIZE = Pattern.compile("(\\d{1,10})\\s*(?:([KMG])(?:iB?)?|B)?");
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private PayloadGenerator() {
+	}
+
+	static byte[] generate(String specification) {
+		int separator = specification.indexOf('*');
+		if (separator < 0) {
+			return random(specification);
+		}
+		return repeat(specification.substring(0, separator).trim(), specification.substring(separator + 1).trim(),
+				specification);
+	}
+
+	private static byte[] random(String specification) {
+		@Nullable Long size = null;
+		long seed = 0;
+
+		for (String attribute : specification.split(",", -1)) {
+			int equals = attribute.indexOf('=');
+			if (equals < 0) {
+				throw invalidSpecification(specification);
+			}
+			String name = attribute.substring(0, equals).trim();
+			String value = attribute.substring(equals + 1).trim();
+			switch (name) {
+				case "size":
+					size = parseSize(value);
+					break;
+				case "seed":
+					seed = parseSeed(value);
+					break;
+				default:
+					throw new ArgumentConversionException(String.format("Unknown payload attribute '%s'", name));
+			}
+		}
+
+		if (size == null) {
+			throw new ArgumentConversionException(String.format("Missing payload size in '%s'", specification));
+		}
+
+		byte[] bytes = new byte[toSize(size)];
+		fill(bytes, seed);
+		return bytes;
+	}
+
+	private static byte[] repeat(String pattern, String count, String specification) {
+		if (pattern.isEmpty()) {
+			throw invalidSpecification(specification);
+		}
+
+		byte[] unit = HexDecoder.decode(pattern);
+		byte[] bytes = new byte[toSize(unit.length * parseSize(count))];
+		if (bytes.length == 0) {
+			return bytes;
+		}
+
+		// double the filled prefix at each copy, like a memset of the whole pattern
+		System.arraycopy(unit, 0, bytes, 0, unit.length);
+		for (int filled = unit.length; filled < bytes.length;) {
+			int length = Math.min(filled, bytes.length - filled);
+			System.arraycopy(bytes, 0, bytes, filled, length);
+			filled += length;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Fill the supplied array with the little-endian representation of the values
+	 * returned by a SplitMix64 generator initialized with the supplied seed.
+	 * @param bytes the array to fill
+	 * @param seed the seed of the generator
+	 */
+	static void fill(byte[] bytes, long seed) {
+		LongBuffer values = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+		long state = seed;
+		while (values.hasRemaining()) {
+			state += GOLDEN_GAMMA;
+			values.put(mix(state));
+		}
+
+		long last = mix(state + GOLDEN_GAMMA);
+		for (int i = values.capacity() * Long.BYTES; i < bytes.length; i++, last >>>= 8) {
+			bytes[i] = (byte) last;
+		}
+	}
+
+	private static long mix(long state) {
+		long z = (state ^ (state >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static long parseSize(String value) {
+		Matcher matcher = SIZE.matcher(value);
+		if (!matcher.matches()) {
+			throw new ArgumentConversionException(String.format("Invalid size '%s'", value));
+		}
+		String unit = matcher.group(2);
+		int shift = unit == null ? 0 : 10 * ("KMG".indexOf(unit) + 1);
+		long number = Long.parseLong(matcher.group(1));
+		if (number > MAX_SIZE >> shift) {
+			throw new ArgumentConversionException(
+					String.format("Size '%s' exceeds the maximum of %d bytes", value, MAX_SIZE));
+		}
+		return number << shift;
+	}
+
+	private static long parseSeed(String value) {
+		try {
+			return Long.decode(value);
+		}
+		catch (NumberFormatException e) {
+			throw new ArgumentConversionException(String.format("Invalid seed '%s'", value), e);
+		}
+	}
+
+	private static int toSize(long size) {
+		if (size > MAX_SIZE) {
+			throw new ArgumentConversionException(
+					String.format("Payload size %d exceeds the maximum of %d bytes", size, MAX_SIZE));
+		}
+		return (int) size;
+	}
+
+	private static ArgumentConversionException invalidSpecification(String specification) {
+		return new ArgumentConversionException(String.format("Invalid payload specification '%s'", specification));
+	}
+
+}
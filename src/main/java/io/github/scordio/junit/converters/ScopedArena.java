@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @ScopedArena} allocates the {@code java.lang.foreign.MemorySegment} targets of
+ * {@link Hex @Hex}, {@link Base64 @Base64} and {@link Bytes @Bytes} in an arena opened
+ * for each conversion and closed after the test method execution or, for fields, when the
+ * test instance is destroyed.
+ * <p>
+ * Without this annotation, the segments are allocated in an automatic arena, accessible
+ * by any thread and released by the garbage collector once unreachable. Only the elements
+ * annotated with {@code @ScopedArena}, directly or through a composed annotation,
+ * register the extension closing the arenas.
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(ArenaExtension.class)
+@SuppressWarnings("exports")
+public @interface ScopedArena {
+
+	/**
+	 * Whether the arena should be shared.
+	 * <p>
+	 * Defaults to {@code false}, opening a confined arena whose segments can only be
+	 * accessed by the thread that performed the conversion. Segments of shared arenas can
+	 * be accessed by any thread.
+	 * @return {@code true} to open a shared arena
+	 */
+	boolean shared() default false;
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.AnnotatedElement;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Creates the {@code java.lang.foreign.MemorySegment} instances handed to
+ * {@code MemorySegment} targets, honoring the requested arena and alignment.
+ * <p>
+ * The native memory is accessed by classes compiled for Java 22, loaded only when the
+ * runtime supports them. On older runtimes, {@code MemorySegment} targets are not
+ * recognized, and the converters report them as unsupported target types.
+ * <p>
+ * Segments are written through {@link ByteBuffer} views of their native memory, so that
+ * the converters can reuse their buffer-based writers.
+ */
+final class SegmentFactory {
+
+	private static final String NATIVE_MEMORY_CLASS_NAME = "io.github.scordio.junit.converters.NativeMemory";
+
+	private static final @Nullable Memory NATIVE_MEMORY = loadNativeMemory();
+
+	private final Scope scope;
+
+	private final long alignment;
+
+	private SegmentFactory(Scope scope, long alignment) {
+		this.scope = scope;
+		this.alignment = alignment;
+	}
+
+	static SegmentFactory of(long alignment) {
+		if (alignment <= 0 || (alignment & (alignment - 1)) != 0) {
+			throw new IllegalArgumentException("Alignment must be a power of two but was " + alignment);
+		}
+		return new SegmentFactory(Scope.AUTO, alignment);
+	}
+
+	private static @Nullable Memory loadNativeMemory() {
+		try {
+			return Class.forName(NATIVE_MEMORY_CLASS_NAME)
+				.asSubclass(Memory.class)
+				.getDeclaredConstructor()
+				.newInstance();
+		}
+		catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Return whether the supplied target type is {@code MemorySegment}, always
+	 * {@code false} before Java 22.
+	 * @param targetType the target type
+	 * @return {@code true} if the target type is {@code MemorySegment}
+	 */
+	static boolean isSegment(Class<?> targetType) {
+		Memory nativeMemory = NATIVE_MEMORY;
+		return nativeMemory != null && nativeMemory.isSegment(targetType);
+	}
+
+	/**
+	 * Return the factory to use for the supplied element, allocating its segments in a
+	 * scoped arena if the element is annotated with {@link ScopedArena}.
+	 * @param element the parameter or field being converted
+	 * @return the factory to use for the element
+	 */
+	SegmentFactory within(AnnotatedElement element) {
+		Optional<ScopedArena> scopedArena = AnnotationSupport.findAnnotation(element, ScopedArena.class);
+		return scopedArena
+			.map(annotation -> new SegmentFactory(annotation.shared() ? Scope.SHARED : Scope.CONFINED, alignment))
+			.orElse(this);
+	}
+
+	/**
+	 * Allocate an empty segment to be written through the returned view and then passed
+	 * to {@link #flip}.
+	 * @param size the size of the segment
+	 * @return a writable view of the segment, in big-endian order
+	 */
+	ByteBuffer allocate(int size) {
+		return getNativeMemory().allocate(size, scope, alignment);
+	}
+
+	/**
+	 * Flip a view obtained from {@link #allocate} after writing it.
+	 * @param buffer the written view
+	 * @return the segment holding the written bytes
+	 */
+	Object flip(ByteBuffer buffer) {
+		buffer.flip();
+		return getNativeMemory().asSegment(buffer);
+	}
+
+	/**
+	 * Copy the supplied bytes into a new segment.
+	 * @param bytes the bytes to copy
+	 * @return the segment holding the bytes
+	 */
+	Object wrap(byte[] bytes) {
+		return flip(allocate(bytes.length).put(bytes));
+	}
+
+	private static Memory getNativeMemory() {
+		// only reached for the target types recognized by isSegment
+		return Objects.requireNonNull(NATIVE_MEMORY, "native memory not available");
+	}
+
+	/**
+	 * Lifetime of the arenas allocating the segments.
+	 */
+	enum Scope {
+
+		/**
+		 * Automatic arena, released by the garbage collector.
+		 */
+		AUTO,
+
+		/**
+		 * Confined arena, closed by the {@link ArenaExtension}.
+		 */
+		CONFINED,
+
+		/**
+		 * Shared arena, closed by the {@link ArenaExtension}.
+		 */
+		SHARED
+
+	}
+
+	/**
+	 * Bridge to the Foreign Function &amp; Memory API, implemented by classes compiled
+	 * for Java 22.
+	 */
+	interface Memory {
+
+		boolean isSegment(Class<?> targetType);
+
+		ByteBuffer allocate(int size, Scope scope, long alignment);
+
+		Object asSegment(ByteBuffer buffer);
+
+	}
+
+}
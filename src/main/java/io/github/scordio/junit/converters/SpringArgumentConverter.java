@@ -15,43 +15,197 @@
  */
 package io.github.scordio.junit.converters;
 
+import io.github.scordio.junit.converters.SpringConversion.ConversionServiceFactory;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.converter.ArgumentConverter;
+import org.junit.jupiter.params.support.AnnotationConsumer;
 import org.junit.jupiter.params.support.FieldContext;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
-class SpringArgumentConverter implements ArgumentConverter {
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.Objects;
 
-	private static final ConversionService CONVERSION_SERVICE = createConversionService();
+class SpringArgumentConverter implements ArgumentConverter, AnnotationConsumer<SpringConversion> {
 
-	private static ConversionService createConversionService() {
-		try {
-			Class<?> conversionService = Class
-				.forName("org.springframework.format.support.DefaultFormattingConversionService");
-			return (ConversionService) conversionService.getConstructor().newInstance();
-		}
-		catch (ReflectiveOperationException e) {
-			return new DefaultConversionService();
+	private static final String FORMATTING_CONVERSION_SERVICE = "org.springframework.format.support.DefaultFormattingConversionService";
+
+	private static final ClassValue<ConversionService> FACTORY_CONVERSION_SERVICES = new ClassValue<ConversionService>() {
+
+		@Override
+		protected ConversionService computeValue(Class<?> factoryClass) {
+			try {
+				return ReflectionUtils.accessibleConstructor(factoryClass.asSubclass(ConversionServiceFactory.class))
+					.newInstance()
+					.createConversionService();
+			}
+			catch (ReflectiveOperationException e) {
+				throw new ArgumentConversionException(
+						"Failed to create conversion service with " + factoryClass.getTypeName(), e);
+			}
 		}
+
+	};
+
+	private @Nullable ConversionService conversionService;
+
+	private volatile @Nullable TypedConversion conversion;
+
+	@Override
+	public void accept(SpringConversion annotation) {
+		this.conversionService = getConversionService(annotation);
 	}
 
 	@Override
 	public @Nullable Object convert(@Nullable Object source, ParameterContext context) {
-		TypeDescriptor sourceType = TypeDescriptor.forObject(source);
-		TypeDescriptor targetType = new TypeDescriptor(MethodParameter.forParameter(context.getParameter()));
-		return CONVERSION_SERVICE.convert(source, sourceType, targetType);
+		// JUnit binds a converter instance to a single element, so this is computed once
+		Parameter parameter = context.getParameter();
+		TypedConversion conversion = this.conversion;
+		if (conversion == null || !conversion.element.equals(parameter)) {
+			conversion = new TypedConversion(getConversionService(), parameter, parameter.getType(),
+					TypedConversion.createTargetType(parameter));
+			this.conversion = conversion;
+		}
+		return conversion.convert(source);
 	}
 
 	@Override
 	public @Nullable Object convert(@Nullable Object source, FieldContext context) {
-		TypeDescriptor sourceType = TypeDescriptor.forObject(source);
-		TypeDescriptor targetType = new TypeDescriptor(context.getField());
-		return CONVERSION_SERVICE.convert(source, sourceType, targetType);
+		Field field = context.getField();
+		TypedConversion conversion = this.conversion;
+		if (conversion == null || !conversion.element.equals(field)) {
+			conversion = new TypedConversion(getConversionService(), field, field.getType(),
+					TypedConversion.createTargetType(field));
+			this.conversion = conversion;
+		}
+		return conversion.convert(source);
+	}
+
+	private ConversionService getConversionService() {
+		return Objects.requireNonNull(this.conversionService, "conversion service not initialized");
+	}
+
+	private static ConversionService getConversionService(SpringConversion annotation) {
+		if (annotation.factory() != ConversionServiceFactory.class) {
+			return FACTORY_CONVERSION_SERVICES.get(annotation.factory());
+		}
+		switch (annotation.service()) {
+			case AUTO:
+				return AutoConversionService.INSTANCE;
+			case DEFAULT:
+				return DefaultConversionService.getSharedInstance();
+			case FORMATTING:
+				return FormattingConversionService.INSTANCE;
+			default:
+				throw new IllegalArgumentException("Unsupported service " + annotation.service());
+		}
+	}
+
+	// The holders below defer the creation of each conversion service to its first use
+
+	private static final class AutoConversionService {
+
+		private static final ConversionService INSTANCE = ClassUtils.isPresent(FORMATTING_CONVERSION_SERVICE,
+				SpringArgumentConverter.class.getClassLoader()) ? FormattingConversionService.INSTANCE
+						: DefaultConversionService.getSharedInstance();
+
+	}
+
+	private static final class FormattingConversionService {
+
+		private static final ConversionService INSTANCE = new DefaultFormattingConversionService();
+
+	}
+
+	// Only ConversionService appears in the method signatures of the converter, so that
+	// the NoClassDefFoundError raised when JUnit reflects on them without spring-core
+	// always reports the same class
+
+	private static final class TypedConversion {
+
+		private final ConversionService conversionService;
+
+		private final Object element;
+
+		private final Class<?> declaredType;
+
+		private final TypeDescriptor targetType;
+
+		// Consecutive sources are usually of the same class
+		private volatile @Nullable TypeDescriptor sourceType;
+
+		private TypedConversion(ConversionService conversionService, Object element, Class<?> declaredType,
+				TypeDescriptor targetType) {
+			this.conversionService = conversionService;
+			this.element = element;
+			this.declaredType = declaredType;
+			this.targetType = targetType;
+		}
+
+		private @Nullable Object convert(@Nullable Object source) {
+			if (LazyConversion.isLazy(declaredType)) {
+				return new LazyConversion(() -> convertNow(source));
+			}
+			return convertNow(source);
+		}
+
+		private @Nullable Object convertNow(@Nullable Object source) {
+			Object event = ConversionEvents.begin();
+			long start = ConversionMetrics.start();
+			try {
+				Object result = conversionService.convert(source, getSourceType(source), targetType);
+				ConversionMetrics.recordSuccess(SpringArgumentConverter.class, targetType.getType(), source, result,
+						start);
+				ConversionEvents.commit(event, SpringArgumentConverter.class, targetType.getType(), source, result,
+						false);
+				return result;
+			}
+			catch (RuntimeException | LinkageError e) {
+				ConversionMetrics.recordFailure(SpringArgumentConverter.class, targetType.getType(), source, start);
+				ConversionEvents.commit(event, SpringArgumentConverter.class, targetType.getType(), source, null, true);
+				throw e;
+			}
+		}
+
+		private @Nullable TypeDescriptor getSourceType(@Nullable Object source) {
+			if (source == null) {
+				return null;
+			}
+			TypeDescriptor sourceType = this.sourceType;
+			if (sourceType == null || sourceType.getType() != source.getClass()) {
+				sourceType = TypeDescriptor.valueOf(source.getClass());
+				this.sourceType = sourceType;
+			}
+			return sourceType;
+		}
+
+		private static TypeDescriptor createTargetType(Parameter parameter) {
+			MethodParameter methodParameter = MethodParameter.forParameter(parameter);
+			if (LazyConversion.isLazy(parameter.getType())) {
+				LazyConversion.getSuppliedType(parameter.getParameterizedType());
+				return new TypeDescriptor(ResolvableType.forMethodParameter(methodParameter).getGeneric(), null,
+						parameter.getAnnotations());
+			}
+			return new TypeDescriptor(methodParameter);
+		}
+
+		private static TypeDescriptor createTargetType(Field field) {
+			if (LazyConversion.isLazy(field.getType())) {
+				LazyConversion.getSuppliedType(field.getGenericType());
+				return new TypeDescriptor(ResolvableType.forField(field).getGeneric(), null, field.getAnnotations());
+			}
+			return new TypeDescriptor(field);
+		}
+
 	}
 
 }
@@ -16,6 +16,7 @@
 package io.github.scordio.junit.converters;
 
 import org.junit.jupiter.params.converter.ConvertWith;
+import org.springframework.core.convert.ConversionService;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
@@ -44,6 +45,10 @@ import java.lang.annotation.Target;
  * {@code Long} (for millisecond timestamps) as well as JSR-310 {@link java.time}
  * types</li>
  * </ul>
+ * <p>
+ * The {@link #service} attribute selects the conversion service to use, while the
+ * {@link #factory} attribute allows plugging in a custom one. Conversion services are
+ * created on first use and shared by all the annotated elements selecting them.
  *
  * @see org.springframework.core.convert.ConversionService
  * @see org.springframework.core.convert.support.DefaultConversionService
@@ -56,4 +61,75 @@ import java.lang.annotation.Target;
 @SuppressWarnings("exports")
 public @interface SpringConversion {
 
+	/**
+	 * The conversion service the converter should use.
+	 * <p>
+	 * Ignored if {@link #factory} is configured.
+	 * <p>
+	 * Defaults to {@link Service#AUTO}.
+	 * @return the conversion service to use
+	 */
+	Service service() default Service.AUTO;
+
+	/**
+	 * The factory of a custom conversion service the converter should use.
+	 * <p>
+	 * The factory class must declare a no-arg constructor, and it is instantiated only
+	 * once, with its conversion service shared by all the annotated elements configured
+	 * with the same factory class.
+	 * <p>
+	 * Defaults to no factory, falling back to {@link #service}.
+	 * @return the factory class of the conversion service to use
+	 */
+	Class<? extends ConversionServiceFactory> factory() default ConversionServiceFactory.class;
+
+	/**
+	 * Enumeration of built-in conversion services.
+	 */
+	enum Service {
+
+		/**
+		 * The {@link #FORMATTING} conversion service if
+		 * {@code org.springframework:spring-context} is available in the test classpath,
+		 * otherwise the {@link #DEFAULT} conversion service.
+		 */
+		AUTO,
+
+		/**
+		 * The conversion service configured with the converters appropriate for most
+		 * environments, excluding the formatters for the Spring format annotations.
+		 *
+		 * @see org.springframework.core.convert.support.DefaultConversionService
+		 */
+		DEFAULT,
+
+		/**
+		 * The conversion service configured with the converters and formatters
+		 * appropriate for most environments, including the formatters for the Spring
+		 * format annotations.
+		 * <p>
+		 * <strong>Note:</strong> This conversion service requires
+		 * {@code org.springframework:spring-context} available in the test classpath.
+		 *
+		 * @see org.springframework.format.support.DefaultFormattingConversionService
+		 */
+		FORMATTING
+
+	}
+
+	/**
+	 * Factory of a custom {@link ConversionService}.
+	 *
+	 * @see SpringConversion#factory()
+	 */
+	interface ConversionServiceFactory {
+
+		/**
+		 * Create the conversion service to use.
+		 * @return the conversion service
+		 */
+		ConversionService createConversionService();
+
+	}
+
 }
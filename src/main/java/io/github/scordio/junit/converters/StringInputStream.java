@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.io.InputStream;
+
+/**
+ * {@link InputStream} reading the characters of a {@link String} as ISO-8859-1 bytes,
+ * without copying them upfront.
+ * <p>
+ * Characters that cannot be mapped are read as {@code '?'}, like
+ * {@link String#getBytes(java.nio.charset.Charset)} does.
+ */
+final class StringInputStream extends InputStream {
+
+	private final String source;
+
+	private int position;
+
+	StringInputStream(String source) {
+		this.source = source;
+	}
+
+	@Override
+	public int read() {
+		return position < source.length() ? toByte(source.charAt(position++)) : -1;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		if (position == source.length()) {
+			return -1;
+		}
+		int count = Math.min(len, source.length() - position);
+		for (int i = 0; i < count; i++) {
+			b[off + i] = (byte) toByte(source.charAt(position++));
+		}
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		int skipped = (int) Math.max(0, Math.min(n, source.length() - position));
+		position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return source.length() - position;
+	}
+
+	private static int toByte(char c) {
+		return c <= 0xFF ? c : '?';
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy reader of the arguments stored in test vector files, reading one line at a time.
+ * <p>
+ * Without fields, each line holds the encoded arguments of one invocation, separated by
+ * whitespace. With fields, the files follow the NIST format: records of
+ * {@code NAME = VALUE} lines, separated by blank lines and grouped by {@code [SECTION]}
+ * lines. Each record holding the fields provides one invocation, with the fields in the
+ * configured order. In both formats, the lines starting with {@code #} are comments.
+ * <p>
+ * The arguments are named with their {@link BytesPreview}, keeping the display names of
+ * the invocations bounded.
+ */
+final class TestVectors implements Iterator<Arguments> {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final BufferedReader reader;
+
+	private final String location;
+
+	private final String[] fields;
+
+	private final String section;
+
+	private final Function<String, byte[]> decoder;
+
+	private @Nullable String currentSection;
+
+	private int lineNumber;
+
+	private int recordLineNumber;
+
+	private @Nullable Arguments next;
+
+	private TestVectors(BufferedReader reader, String location, String[] fields, String section,
+			Function<String, byte[]> decoder) {
+		this.reader = reader;
+		this.location = location;
+		this.fields = fields;
+		this.section = section;
+		this.decoder = decoder;
+	}
+
+	/**
+	 * Read the arguments stored in the supplied locations, opening each location only
+	 * when the arguments of the previous ones have been consumed.
+	 * @param locations the classpath resources or files to read
+	 * @param fields the fields of the records to provide, or none for line-oriented files
+	 * @param section the section of the records to provide, or empty for all of them
+	 * @param decoder the decoder of the values
+	 * @return the arguments, to be closed once consumed
+	 */
+	static Stream<Arguments> read(String[] locations, String[] fields, String section,
+			Function<String, byte[]> decoder) {
+		if (locations.length == 0) {
+			throw new IllegalArgumentException("At least one location must be declared");
+		}
+		if (Arrays.stream(fields).anyMatch(field -> field.trim().isEmpty())) {
+			throw new IllegalArgumentException("Fields must not be blank");
+		}
+		return Arrays.stream(locations).flatMap(location -> read(location, fields, section, decoder));
+	}
+
+	private static Stream<Arguments> read(String location, String[] fields, String section,
+			Function<String, byte[]> decoder) {
+		BufferedReader reader;
+		try {
+			reader = new BufferedReader(
+					new InputStreamReader(FileContents.open(location), StandardCharsets.ISO_8859_1));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to open [" + location + "]", e);
+		}
+		TestVectors vectors = new TestVectors(reader, location, fields, section, decoder);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(vectors, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(vectors::close);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			next = fields.length == 0 ? readLine() : readRecord();
+		}
+		return next != null;
+	}
+
+	@Override
+	public Arguments next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Arguments arguments = Objects.requireNonNull(next);
+		next = null;
+		return arguments;
+	}
+
+	private @Nullable Arguments readLine() {
+		for (String line = nextLine(); line != null; line = nextLine()) {
+			String trimmed = line.trim();
+			if (!trimmed.isEmpty() && trimmed.charAt(0) != '#') {
+				String[] values = WHITESPACE.split(trimmed, -1);
+				Object[] arguments = new Object[values.length];
+				for (int i = 0; i < values.length; i++) {
+					arguments[i] = BytesPreview.named(decode(values[i], "column " + (i + 1), lineNumber));
+				}
+				return Arguments.of(arguments);
+			}
+		}
+		return null;
+	}
+
+	private @Nullable Arguments readRecord() {
+		@Nullable String[] values = new String[fields.length];
+		int[] valueLineNumbers = new int[fields.length];
+		int found = 0;
+		for (String line = nextLine(); line != null; line = nextLine()) {
+			String trimmed = line.trim();
+			boolean header = trimmed.startsWith("[") && trimmed.endsWith("]");
+			if (trimmed.isEmpty() || header) {
+				if (found > 0) {
+					return toArguments(values, valueLineNumbers);
+				}
+				if (header) {
+					currentSection = trimmed.substring(1, trimmed.length() - 1).trim();
+				}
+				continue;
+			}
+			int separator = trimmed.indexOf('=');
+			if (trimmed.charAt(0) == '#' || separator < 0 || !isSelected()) {
+				continue;
+			}
+			String name = trimmed.substring(0, separator).trim();
+			for (int i = 0; i < fields.length; i++) {
+				if (fields[i].equals(name) && values[i] == null) {
+					values[i] = trimmed.substring(separator + 1).trim();
+					valueLineNumbers[i] = lineNumber;
+					if (found++ == 0) {
+						recordLineNumber = lineNumber;
+					}
+					break;
+				}
+			}
+		}
+		return found > 0 ? toArguments(values, valueLineNumbers) : null;
+	}
+
+	private boolean isSelected() {
+		return section.isEmpty() || section.equals(currentSection);
+	}
+
+	private Arguments toArguments(@Nullable String[] values, int[] valueLineNumbers) {
+		Object[] arguments = new Object[values.length];
+		for (int i = 0; i < values.length; i++) {
+			String value = values[i];
+			if (value == null) {
+				throw new IllegalArgumentException(
+						String.format("Missing field '%s' in the record starting at line %d of [%s]", fields[i],
+								recordLineNumber, location));
+			}
+			arguments[i] = BytesPreview.named(decode(value, "field '" + fields[i] + "'", valueLineNumbers[i]));
+		}
+		return Arguments.of(arguments);
+	}
+
+	private byte[] decode(String value, String description, int valueLineNumber) {
+		try {
+			return decoder.apply(value);
+		}
+		catch (IllegalArgumentException | ArgumentConversionException e) {
+			throw new IllegalArgumentException(String.format("Invalid %s at line %d of [%s]: %s", description,
+					valueLineNumber, location, e.getMessage()), e);
+		}
+	}
+
+	private @Nullable String nextLine() {
+		try {
+			String line = reader.readLine();
+			if (line != null) {
+				lineNumber++;
+			}
+			return line;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read [" + location + "]", e);
+		}
+	}
+
+	private void close() {
+		try {
+			reader.close();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to close [" + location + "]", e);
+		}
+	}
+
+}
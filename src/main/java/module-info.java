@@ -29,6 +29,7 @@ module io.github.scordio.junit.converters {
 	requires static spring.core;
 
 	requires org.junit.jupiter.params;
+	requires static org.junit.platform.launcher;
 
 	exports io.github.scordio.junit.converters;
 
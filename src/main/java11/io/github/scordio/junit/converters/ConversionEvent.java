@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder event of a conversion.
+ * <p>
+ * All the accesses go through static methods, so that the event class is only loaded
+ * once {@link ConversionEvents} has set up the module readability. The events are only
+ * allocated while enabled in some running recording.
+ */
+@Name("io.github.scordio.junit.converters.Conversion")
+@Label("Argument Conversion")
+@Category({ "JUnit", "Converters" })
+@Description("Conversion of a parameterized test argument")
+@StackTrace(false)
+final class ConversionEvent extends Event {
+
+	@Label("Converter")
+	@Nullable Class<?> converter;
+
+	@Label("Source Type")
+	@Nullable Class<?> sourceType;
+
+	@Label("Target Type")
+	@Nullable Class<?> targetType;
+
+	@Label("Source Size")
+	@Description("Size of the source, only tracked for strings, byte arrays and buffers")
+	@DataAmount
+	long sourceSize;
+
+	@Label("Result Size")
+	@Description("Size of the result, only tracked for strings, byte arrays and buffers")
+	@DataAmount
+	long resultSize;
+
+	@Label("Failed")
+	boolean failed;
+
+	static @Nullable Object beginIfEnabled() {
+		ConversionEvent event = new ConversionEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endAndCommit(Object object, Class<?> converter, Class<?> targetType, @Nullable Object source,
+			@Nullable Object result, boolean failed) {
+		ConversionEvent event = (ConversionEvent) object;
+		event.end();
+		if (event.shouldCommit()) {
+			event.converter = converter;
+			event.sourceType = source != null ? source.getClass() : null;
+			event.targetType = targetType;
+			event.sourceSize = ConversionMetrics.sizeOf(source);
+			event.resultSize = ConversionMetrics.sizeOf(result);
+			event.failed = failed;
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import jdk.jfr.FlightRecorder;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * JDK Flight Recorder events of the conversions, named
+ * {@code io.github.scordio.junit.converters.Conversion}.
+ * <p>
+ * When loaded in a named module, the module is granted readability of {@code jdk.jfr}
+ * before the event class is loaded, so that the optional dependency does not need to be
+ * declared in the module descriptor, which targets Java 9. When the {@code jdk.jfr} module
+ * is not available, the converters do not emit any event.
+ */
+final class ConversionEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	private ConversionEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+			if (jfr.isEmpty()) {
+				return false;
+			}
+			Module module = ConversionEvents.class.getModule();
+			if (module.isNamed()) {
+				module.addReads(jfr.get());
+			}
+			return true;
+		}
+		catch (LinkageError | RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Begin the event of a conversion.
+	 * @return the event to pass to {@link #commit}, or {@code null} if the event is
+	 * disabled
+	 */
+	static @Nullable Object begin() {
+		// JFR registers the event class on its first use once the recorder is
+		// initialized, so that the event class is not loaded before a recording
+		return AVAILABLE && FlightRecorder.isInitialized() ? ConversionEvent.beginIfEnabled() : null;
+	}
+
+	/**
+	 * End and commit the event of a conversion.
+	 * @param event the event returned by {@link #begin}
+	 * @param converter the converter class
+	 * @param targetType the target type
+	 * @param source the source
+	 * @param result the result, or {@code null} if the conversion failed
+	 * @param failed whether the conversion failed
+	 */
+	static void commit(@Nullable Object event, Class<?> converter, Class<?> targetType, @Nullable Object source,
+			@Nullable Object result, boolean failed) {
+		if (event != null) {
+			ConversionEvent.endAndCommit(event, converter, targetType, source, result, failed);
+		}
+	}
+
+}
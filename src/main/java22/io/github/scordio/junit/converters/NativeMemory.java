@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+
+/**
+ * Native memory access for {@link MemorySegment} targets, allocating the segments in the
+ * requested arena.
+ * <p>
+ * Confined and shared arenas are registered to the {@link ArenaExtension}, which closes
+ * them at the end of the test.
+ */
+final class NativeMemory implements SegmentFactory.Memory {
+
+	@Override
+	public boolean isSegment(Class<?> targetType) {
+		return targetType == MemorySegment.class;
+	}
+
+	@Override
+	public ByteBuffer allocate(int size, SegmentFactory.Scope scope, long alignment) {
+		return open(scope).allocate(size, alignment).asByteBuffer();
+	}
+
+	@Override
+	public Object asSegment(ByteBuffer buffer) {
+		// views of native segments share their scope with the segment
+		return MemorySegment.ofBuffer(buffer);
+	}
+
+	private static Arena open(SegmentFactory.Scope scope) {
+		return switch (scope) {
+			case AUTO -> Arena.ofAuto();
+			case CONFINED -> ArenaExtension.register(Arena.ofConfined());
+			case SHARED -> ArenaExtension.register(Arena.ofShared());
+		};
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.junit.converters;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk conversions between primitive arrays and their binary representation in
+ * {@code byte[]} instances, based on byte array view {@link VarHandle VarHandles}.
+ * <p>
+ * Each loop uses a constant {@code VarHandle}, so that the JIT compiler can turn the
+ * accesses into plain, possibly byte-swapped, loads and stores.
+ */
+final class NumberCodec {
+
+	private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private NumberCodec() {
+	}
+
+	static byte[] toBytes(short[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Short.BYTES)];
+		if (bigEndian) {
+			for (int i = 0; i < source.length; i++) {
+				SHORT_BE.set(bytes, i * Short.BYTES, source[i]);
+			}
+		}
+		else {
+			for (int i = 0; i < source.length; i++) {
+				SHORT_LE.set(bytes, i * Short.BYTES, source[i]);
+			}
+		}
+		return bytes;
+	}
+
+	static byte[] toBytes(int[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Integer.BYTES)];
+		if (bigEndian) {
+			for (int i = 0; i < source.length; i++) {
+				INT_BE.set(bytes, i * Integer.BYTES, source[i]);
+			}
+		}
+		else {
+			for (int i = 0; i < source.length; i++) {
+				INT_LE.set(bytes, i * Integer.BYTES, source[i]);
+			}
+		}
+		return bytes;
+	}
+
+	static byte[] toBytes(long[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Long.BYTES)];
+		if (bigEndian) {
+			for (int i = 0; i < source.length; i++) {
+				LONG_BE.set(bytes, i * Long.BYTES, source[i]);
+			}
+		}
+		else {
+			for (int i = 0; i < source.length; i++) {
+				LONG_LE.set(bytes, i * Long.BYTES, source[i]);
+			}
+		}
+		return bytes;
+	}
+
+	static byte[] toBytes(float[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Float.BYTES)];
+		if (bigEndian) {
+			for (int i = 0; i < source.length; i++) {
+				FLOAT_BE.set(bytes, i * Float.BYTES, source[i]);
+			}
+		}
+		else {
+			for (int i = 0; i < source.length; i++) {
+				FLOAT_LE.set(bytes, i * Float.BYTES, source[i]);
+			}
+		}
+		return bytes;
+	}
+
+	static byte[] toBytes(double[] source, boolean bigEndian) {
+		byte[] bytes = new byte[Math.multiplyExact(source.length, Double.BYTES)];
+		if (bigEndian) {
+			for (int i = 0; i < source.length; i++) {
+				DOUBLE_BE.set(bytes, i * Double.BYTES, source[i]);
+			}
+		}
+		else {
+			for (int i = 0; i < source.length; i++) {
+				DOUBLE_LE.set(bytes, i * Double.BYTES, source[i]);
+			}
+		}
+		return bytes;
+	}
+
+	static short[] toShorts(byte[] source, int offset, int length, boolean bigEndian) {
+		short[] array = new short[length];
+		if (bigEndian) {
+			for (int i = 0; i < length; i++) {
+				array[i] = (short) SHORT_BE.get(source, offset + i * Short.BYTES);
+			}
+		}
+		else {
+			for (int i = 0; i < length; i++) {
+				array[i] = (short) SHORT_LE.get(source, offset + i * Short.BYTES);
+			}
+		}
+		return array;
+	}
+
+	static int[] toInts(byte[] source, int offset, int length, boolean bigEndian) {
+		int[] array = new int[length];
+		if (bigEndian) {
+			for (int i = 0; i < length; i++) {
+				array[i] = (int) INT_BE.get(source, offset + i * Integer.BYTES);
+			}
+		}
+		else {
+			for (int i = 0; i < length; i++) {
+				array[i] = (int) INT_LE.get(source, offset + i * Integer.BYTES);
+			}
+		}
+		return array;
+	}
+
+	static long[] toLongs(byte[] source, int offset, int length, boolean bigEndian) {
+		long[] array = new long[length];
+		if (bigEndian) {
+			for (int i = 0; i < length; i++) {
+				array[i] = (long) LONG_BE.get(source, offset + i * Long.BYTES);
+			}
+		}
+		else {
+			for (int i = 0; i < length; i++) {
+				array[i] = (long) LONG_LE.get(source, offset + i * Long.BYTES);
+			}
+		}
+		return array;
+	}
+
+	static float[] toFloats(byte[] source, int offset, int length, boolean bigEndian) {
+		float[] array = new float[length];
+		if (bigEndian) {
+			for (int i = 0; i < length; i++) {
+				array[i] = (float) FLOAT_BE.get(source, offset + i * Float.BYTES);
+			}
+		}
+		else {
+			for (int i = 0; i < length; i++) {
+				array[i] = (float) FLOAT_LE.get(source, offset + i * Float.BYTES);
+			}
+		}
+		return array;
+	}
+
+	static double[] toDoubles(byte[] source, int offset, int length, boolean bigEndian) {
+		double[] array = new double[length];
+		if (bigEndian) {
+			for (int i = 0; i < length; i++) {
+				array[i] = (double) DOUBLE_BE.get(source, offset + i * Double.BYTES);
+			}
+		}
+		else {
+			for (int i = 0; i < length; i++) {
+				array[i] = (double) DOUBLE_LE.get(source, offset + i * Double.BYTES);
+			}
+		}
+		return array;
+	}
+
+}
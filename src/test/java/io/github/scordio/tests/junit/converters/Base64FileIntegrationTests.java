@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.junit.converters.Base64.Encoding.URL;
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.Base64File;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class Base64FileIntegrationTests {
+
+	@Test
+	void should_convert_supported_values() {
+		executeTestsForClass(SupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	static class SupportedValuesTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "files/base64.txt", "/files/base64.txt", "src/test/resources/files/base64.txt" })
+		void with_default_encoding(@Base64File byte[] bytes) {
+			assertThat(bytes).isEqualTo(new byte[] { 63, 63, 63 });
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "files/base64-url.txt")
+		void with_url_encoding(@Base64File(encoding = URL) byte[] bytes) {
+			assertThat(bytes).isEqualTo(new byte[] { 63, 63, 63 });
+		}
+
+	}
+
+	@Test
+	void should_fail_with_unsupported_values() {
+		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).failed(4))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(NullPointerException.class), message("'null' is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Source type java.lang.Integer is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Classpath resource or file [files/missing.txt] does not exist"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class), message("Illegal base64 character 5f"))));
+	}
+
+	static class UnsupportedValuesTestCase {
+
+		@ParameterizedTest
+		@NullSource
+		@ValueSource(ints = 42)
+		@ValueSource(strings = { "files/missing.txt", "files/base64-url.txt" })
+		void test(@SuppressWarnings("unused") @Base64File byte[] bytes) {
+			// never called
+		}
+
+	}
+
+}
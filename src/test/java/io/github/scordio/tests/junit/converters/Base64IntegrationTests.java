@@ -21,6 +21,7 @@ import static io.github.scordio.junit.converters.Base64.Encoding.URL;
 import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
@@ -33,11 +34,17 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
 import java.util.stream.Stream;
 
 class Base64IntegrationTests {
@@ -45,7 +52,7 @@ class Base64IntegrationTests {
 	@Test
 	void should_convert_supported_values() {
 		executeTestsForClass(SupportedValuesTestCase.class).testEvents()
-			.assertStatistics(stats -> stats.started(65).succeeded(65));
+			.assertStatistics(stats -> stats.started(97).succeeded(97));
 	}
 
 	static class SupportedValuesTestCase {
@@ -62,6 +69,18 @@ class Base64IntegrationTests {
 			assertThat(bytes).isEqualTo(expected);
 		}
 
+		@ParameterizedTest
+		@MethodSource({ "basicArguments", "commonArguments" })
+		void with_input_stream(@Base64 InputStream stream, byte[] expected) {
+			assertThat(stream).hasBinaryContent(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource({ "basicArguments", "commonArguments" })
+		void with_channel(@Base64 ReadableByteChannel channel, byte[] expected) {
+			assertThat(Channels.newInputStream(channel)).hasBinaryContent(expected);
+		}
+
 		@ParameterizedTest
 		@MethodSource({ "basicArguments", "commonArguments" })
 		void with_basic_encoding(@Base64(encoding = BASIC) byte[] bytes, byte[] expected) {
@@ -126,6 +145,190 @@ class Base64IntegrationTests {
 
 	}
 
+	@Test
+	void should_ignore_whitespace() {
+		executeTestsForClass(WhitespaceTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(15).succeeded(15));
+	}
+
+	static class WhitespaceTestCase {
+
+		@ParameterizedTest
+		@MethodSource("basicArguments")
+		void with_basic_encoding(@Base64(ignoreWhitespace = true) byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("basicArguments")
+		void with_byte_buffer(@Base64(ignoreWhitespace = true) ByteBuffer buffer, byte[] expected) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(expected));
+		}
+
+		@ParameterizedTest
+		@MethodSource("basicArguments")
+		void with_input_stream(@Base64(ignoreWhitespace = true) InputStream stream, byte[] expected) {
+			assertThat(stream).hasBinaryContent(expected);
+		}
+
+		static Stream<Arguments> basicArguments() {
+			return Stream.of( //
+					arguments("  Pz8/\n  Pz8/\r\n\tPz8=\n", new byte[] { 63, 63, 63, 63, 63, 63, 63, 63 }),
+					arguments("P z 8 /", new byte[] { 63, 63, 63 }), arguments(" \n ", new byte[0]));
+		}
+
+		@ParameterizedTest
+		@MethodSource("urlArguments")
+		void with_url_encoding(@Base64(encoding = URL, ignoreWhitespace = true) byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> urlArguments() {
+			return Stream.of(arguments("Pz8_\n  Pz8_", new byte[] { 63, 63, 63, 63, 63, 63 }));
+		}
+
+		@ParameterizedTest
+		@CsvSource(textBlock = """
+				'Pz8/Pz8/
+				 Pz8/', 9
+				""")
+		void with_text_block(@Base64(ignoreWhitespace = true) byte[] bytes, int length) {
+			assertThat(bytes).hasSize(length).containsOnly(63);
+		}
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_mime_input(@Base64(encoding = MIME) byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_wrapped_input(@Base64(ignoreWhitespace = true) byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> largeArguments() {
+			byte[] bytes = new byte[100_003];
+			new Random(42).nextBytes(bytes);
+			return Stream.of(arguments(java.util.Base64.getMimeEncoder().encodeToString(bytes), bytes),
+					arguments(java.util.Base64.getMimeEncoder().encode(bytes), bytes));
+		}
+
+	}
+
+	@Test
+	void should_fail_with_malformed_whitespace_tolerant_values() {
+		executeTestsForClass(MalformedWhitespaceTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(3).succeeded(0).failed(3))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class), message("Illegal base64 character 2d"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class),
+							message("Last unit does not have enough valid bits"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class),
+							message("Input byte array has incorrect ending byte at 6"))));
+	}
+
+	static class MalformedWhitespaceTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "Pz8 -", "Pz8/ A", "Pz8= \nPz8/" })
+		void test(@SuppressWarnings("unused") @Base64(ignoreWhitespace = true) byte[] bytes) {
+			// never called
+		}
+
+	}
+
+	@Test
+	void should_convert_to_byte_buffers() {
+		executeTestsForClass(ByteBufferTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	static class ByteBufferTestCase {
+
+		private static final ByteBuffer EXPECTED = ByteBuffer.wrap(new byte[] { 63, 63, 63 });
+
+		@ParameterizedTest
+		@ValueSource(strings = "Pz8/")
+		void with_default_attributes(@Base64 ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "Pz8/")
+		void with_direct_allocation(@Base64(direct = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "Pz8/")
+		void with_read_only_view(@Base64(readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "Pz8/")
+		void with_direct_allocation_and_read_only_view(@Base64(direct = true, readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+	}
+
+	@Test
+	void should_decode_streams_lazily() {
+		executeTestsForClass(StreamTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	static class StreamTestCase {
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_input_stream(@Base64(encoding = MIME) InputStream stream, byte[] expected) {
+			assertThat(stream).hasBinaryContent(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_channel(@Base64(encoding = MIME) ReadableByteChannel channel, byte[] expected) {
+			assertThat(Channels.newInputStream(channel)).hasBinaryContent(expected);
+		}
+
+		static Stream<Arguments> largeArguments() {
+			byte[] bytes = new byte[100_003];
+			new Random(42).nextBytes(bytes);
+			return Stream.of(arguments(java.util.Base64.getMimeEncoder().encodeToString(bytes), bytes));
+		}
+
+		@ParameterizedTest
+		@MethodSource("malformedArguments")
+		void with_malformed_input(@Base64 InputStream stream, String message) {
+			assertThatIOException().isThrownBy(stream::readAllBytes).withMessageStartingWith(message);
+		}
+
+		static Stream<Arguments> malformedArguments() {
+			return Stream.of( //
+					arguments("Pz8 ", "Illegal base64 character"),
+					arguments("A", "Base64 stream has one un-decoded dangling byte."));
+		}
+
+	}
+
 	@Test
 	void should_fail_with_unsupported_values() {
 		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.BytesFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+class BytesFileIntegrationTests {
+
+	@Test
+	void should_convert_supported_values() {
+		executeTestsForClass(SupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(12).succeeded(12));
+	}
+
+	static class SupportedValuesTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "files/bytes.bin", "/files/bytes.bin", "src/test/resources/files/bytes.bin" })
+		@MethodSource("paths")
+		void test(@BytesFile byte[] bytes) {
+			assertThat(bytes).isEqualTo(new byte[] { 0x0A, 0x1B, 0x2C });
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "files/bytes.bin", "/files/bytes.bin", "src/test/resources/files/bytes.bin" })
+		@MethodSource("paths")
+		void with_byte_buffer(@BytesFile ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "files/bytes.bin", "/files/bytes.bin", "src/test/resources/files/bytes.bin" })
+		@MethodSource("paths")
+		void with_writable_heap_byte_buffer(@BytesFile(direct = false, readOnly = false) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isFalse();
+			buffer.put(0, (byte) 0x3D);
+		}
+
+		static Stream<Path> paths() {
+			return Stream.of(Paths.get("src/test/resources/files/bytes.bin"));
+		}
+
+	}
+
+	@Test
+	void should_fail_with_unsupported_values() {
+		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(3).failed(3))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(NullPointerException.class), message("'null' is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Source type java.lang.Integer is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Classpath resource or file [files/missing.bin] does not exist"))));
+	}
+
+	static class UnsupportedValuesTestCase {
+
+		@ParameterizedTest
+		@NullSource
+		@ValueSource(ints = 42)
+		@ValueSource(strings = "files/missing.bin")
+		void test(@SuppressWarnings("unused") @BytesFile byte[] bytes) {
+			// never called
+		}
+
+	}
+
+}
@@ -34,7 +34,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.JUnitException;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.stream.Stream;
 
 class BytesIntegrationTests {
@@ -112,6 +119,349 @@ class BytesIntegrationTests {
 
 	}
 
+	@Test
+	void should_convert_to_byte_buffers() {
+		executeTestsForClass(ByteBufferTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(5).succeeded(5));
+	}
+
+	static class ByteBufferTestCase {
+
+		private static final ByteBuffer EXPECTED = ByteBuffer.wrap(new byte[] { 97, 98, 99 });
+
+		@ParameterizedTest
+		@ValueSource(strings = "abc")
+		void with_default_attributes(@Bytes ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "abc")
+		void with_direct_allocation(@Bytes(direct = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "abc")
+		void with_read_only_view(@Bytes(readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "abc")
+		void with_direct_allocation_and_read_only_view(@Bytes(direct = true, readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = 0x0A1B2C3D)
+		void with_little_endian_order(@Bytes(order = LITTLE_ENDIAN, direct = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x3D, 0x2C, 0x1B, 0x0A }));
+			assertThat(buffer.order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+			assertThat(buffer.getInt()).isEqualTo(0x0A1B2C3D);
+		}
+
+	}
+
+	@Test
+	void should_convert_primitive_arrays() {
+		executeTestsForClass(PrimitiveArrayTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(13).succeeded(13));
+	}
+
+	static class PrimitiveArrayTestCase {
+
+		@ParameterizedTest
+		@MethodSource("bigEndianArguments")
+		void with_big_endian_order(@Bytes byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> bigEndianArguments() {
+			return Stream.of( //
+					arguments(new short[] { 0x1234, 0x5678 }, new byte[] { 0x12, 0x34, 0x56, 0x78 }), //
+					arguments(new int[] { 0x12345678, 0x0A1B2C3D },
+							new byte[] { 0x12, 0x34, 0x56, 0x78, 0x0A, 0x1B, 0x2C, 0x3D }), //
+					arguments(new long[] { 0x123456780A1B2C3DL },
+							new byte[] { 0x12, 0x34, 0x56, 0x78, 0x0A, 0x1B, 0x2C, 0x3D }), //
+					arguments(new float[] { 0x12345678 }, new byte[] { 0x4D, -0x6F, -0x5E, -0x4C }), //
+					arguments(new double[] { 0x123456780A1B2C3DL },
+							new byte[] { 0x43, -0x4E, 0x34, 0x56, 0x78, 0x0A, 0x1B, 0x2C }), //
+					arguments(new int[0], new byte[0]));
+		}
+
+		@ParameterizedTest
+		@MethodSource("littleEndianArguments")
+		void with_little_endian_order(@Bytes(order = LITTLE_ENDIAN) byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> littleEndianArguments() {
+			return Stream.of( //
+					arguments(new short[] { 0x1234, 0x5678 }, new byte[] { 0x34, 0x12, 0x78, 0x56 }), //
+					arguments(new int[] { 0x12345678, 0x0A1B2C3D },
+							new byte[] { 0x78, 0x56, 0x34, 0x12, 0x3D, 0x2C, 0x1B, 0x0A }), //
+					arguments(new long[] { 0x123456780A1B2C3DL },
+							new byte[] { 0x3D, 0x2C, 0x1B, 0x0A, 0x78, 0x56, 0x34, 0x12 }), //
+					arguments(new float[] { 0x12345678 }, new byte[] { -0x4C, -0x5E, -0x6F, 0x4D }), //
+					arguments(new double[] { 0x123456780A1B2C3DL },
+							new byte[] { 0x2C, 0x1B, 0x0A, 0x78, 0x56, 0x34, -0x4E, 0x43 }));
+		}
+
+		@ParameterizedTest
+		@MethodSource("intArrays")
+		void with_direct_buffer(@Bytes(order = LITTLE_ENDIAN, direct = true) ByteBuffer buffer) {
+			assertThat(buffer)
+				.isEqualTo(ByteBuffer.wrap(new byte[] { 0x78, 0x56, 0x34, 0x12, 0x3D, 0x2C, 0x1B, 0x0A }));
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		@ParameterizedTest
+		@MethodSource("intArrays")
+		void with_read_only_buffer(@Bytes(readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer)
+				.isEqualTo(ByteBuffer.wrap(new byte[] { 0x12, 0x34, 0x56, 0x78, 0x0A, 0x1B, 0x2C, 0x3D }));
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		static Stream<int[]> intArrays() {
+			return Stream.of(new int[][] { { 0x12345678, 0x0A1B2C3D } });
+		}
+
+	}
+
+	@Test
+	void should_convert_delimited_numbers() {
+		executeTestsForClass(DelimitedNumbersTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(12).succeeded(12));
+	}
+
+	static class DelimitedNumbersTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "1,2,-1", " 1 , 2 , -1 " })
+		void with_bytes(@Bytes(numberType = byte.class) byte[] bytes) {
+			assertThat(bytes).containsExactly(1, 2, -1);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "-2147483648,+2147483647", " -2147483648 ,  +2147483647 " })
+		void with_int_bounds(@Bytes(numberType = int.class) byte[] bytes) {
+			assertThat(bytes).containsExactly(0x80, 0x00, 0x00, 0x00, 0x7F, 0xFF, 0xFF, 0xFF);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "4660,22136")
+		void with_shorts(@Bytes(numberType = short.class) byte[] bytes) {
+			assertThat(bytes).containsExactly(0x12, 0x34, 0x56, 0x78);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "305419896;169552957")
+		void with_ints_and_custom_delimiter(@Bytes(numberType = int.class, delimiter = ";") byte[] bytes) {
+			assertThat(bytes).containsExactly(0x12, 0x34, 0x56, 0x78, 0x0A, 0x1B, 0x2C, 0x3D);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1311768465037274173")
+		void with_longs_and_little_endian_order(@Bytes(numberType = long.class, order = LITTLE_ENDIAN) byte[] bytes) {
+			assertThat(bytes).containsExactly(0x3D, 0x2C, 0x1B, 0x0A, 0x78, 0x56, 0x34, 0x12);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1.5, -2")
+		void with_floats(@Bytes(numberType = float.class) byte[] bytes) {
+			assertThat(ByteBuffer.wrap(bytes).asFloatBuffer()).isEqualTo(FloatBuffer.wrap(new float[] { 1.5f, -2f }));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1.5 | -2")
+		void with_doubles_and_multi_character_delimiter(
+				@Bytes(numberType = double.class, delimiter = " | ") ByteBuffer buffer) {
+			assertThat(buffer.asDoubleBuffer()).isEqualTo(DoubleBuffer.wrap(new double[] { 1.5, -2 }));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "", " " })
+		void with_blank_strings(@Bytes(numberType = int.class) byte[] bytes) {
+			assertThat(bytes).isEmpty();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1,2")
+		void with_number_type_and_numeric_values(@Bytes(numberType = int.class) ByteBuffer buffer) {
+			assertThat(buffer.getInt()).isEqualTo(1);
+			assertThat(buffer.getInt()).isEqualTo(2);
+			assertThat(buffer.hasRemaining()).isFalse();
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_delimited_numbers() {
+		executeTestsForClass(InvalidDelimitedNumbersTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(5).failed(5))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class), message("Invalid byte value '128'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class), message("Invalid byte value '-'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class), message("Invalid byte value '1 2'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class), message("Invalid byte value ''"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(JUnitException.class), cause( //
+									instanceOf(IllegalArgumentException.class),
+									message("Unsupported number type java.lang.Integer")))));
+	}
+
+	static class InvalidDelimitedNumbersTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "1,128", "1,,2", "1, - ", "1 2" })
+		void test(@SuppressWarnings("unused") @Bytes(numberType = byte.class) byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1")
+		void unsupported_number_type(@SuppressWarnings("unused") @Bytes(numberType = Integer.class) byte[] bytes) {
+			// never called
+		}
+
+	}
+
+	@Test
+	void should_read_numeric_targets() {
+		executeTestsForClass(NumericTargetTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(9).succeeded(9));
+	}
+
+	static class NumericTargetTestCase {
+
+		@ParameterizedTest
+		@MethodSource("intSources")
+		void int_with_big_endian_order(@Bytes int value) {
+			assertThat(value).isEqualTo(0x12345678);
+		}
+
+		static Stream<Object> intSources() {
+			ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0, 0x12, 0x34, 0x56, 0x78 });
+			buffer.get();
+			return Stream.of(new byte[] { 0x12, 0x34, 0x56, 0x78 }, buffer);
+		}
+
+		@ParameterizedTest
+		@MethodSource("longSources")
+		void long_with_little_endian_order(@Bytes(order = LITTLE_ENDIAN) Long value) {
+			assertThat(value).isEqualTo(0x123456780A1B2C3DL);
+		}
+
+		static Stream<byte[]> longSources() {
+			return Stream.of(new byte[][] { { 0x3D, 0x2C, 0x1B, 0x0A, 0x78, 0x56, 0x34, 0x12 } });
+		}
+
+		@ParameterizedTest
+		@MethodSource("bigIntegerSources")
+		void big_integer(@Bytes BigInteger value) {
+			assertThat(value).isEqualTo(BigInteger.valueOf(0xFF01));
+		}
+
+		@ParameterizedTest
+		@MethodSource("bigIntegerSources")
+		void big_integer_with_little_endian_order(@Bytes(order = LITTLE_ENDIAN) BigInteger value) {
+			assertThat(value).isEqualTo(BigInteger.valueOf(0x01FF));
+		}
+
+		static Stream<byte[]> bigIntegerSources() {
+			return Stream.of(new byte[][] { { -1, 1 } });
+		}
+
+		@ParameterizedTest
+		@MethodSource("arraySources")
+		void short_array(@Bytes short[] array) {
+			assertThat(array).containsExactly((short) 0x1234, (short) 0x5678, (short) 0x0A1B, (short) 0x2C3D);
+		}
+
+		@ParameterizedTest
+		@MethodSource("arraySources")
+		void int_array_with_little_endian_order(@Bytes(order = LITTLE_ENDIAN) int[] array) {
+			assertThat(array).containsExactly(0x78563412, 0x3D2C1B0A);
+		}
+
+		@ParameterizedTest
+		@MethodSource("arraySources")
+		void long_array(@Bytes long[] array) {
+			assertThat(array).containsExactly(0x123456780A1B2C3DL);
+		}
+
+		@ParameterizedTest
+		@MethodSource("arraySources")
+		void double_array(@Bytes double[] array) {
+			assertThat(array).containsExactly(Double.longBitsToDouble(0x123456780A1B2C3DL));
+		}
+
+		static Stream<byte[]> arraySources() {
+			return Stream.of(new byte[][] { { 0x12, 0x34, 0x56, 0x78, 0x0A, 0x1B, 0x2C, 0x3D } });
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_numeric_sources() {
+		executeTestsForClass(InvalidNumericSourcesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(3).failed(3))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Expected 4 bytes for target type int but found 3"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Expected a multiple of 4 bytes for target type float[] but found 3"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Source type java.lang.String is not supported"))));
+	}
+
+	static class InvalidNumericSourcesTestCase {
+
+		@ParameterizedTest
+		@MethodSource("threeBytes")
+		@ValueSource(strings = "abcd")
+		void int_value(@SuppressWarnings("unused") @Bytes int value) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@MethodSource("threeBytes")
+		void float_array(@SuppressWarnings("unused") @Bytes float[] array) {
+			// never called
+		}
+
+		static Stream<byte[]> threeBytes() {
+			return Stream.of(new byte[][] { { 1, 2, 3 } });
+		}
+
+	}
+
 	@Test
 	void should_fail_with_unsupported_values() {
 		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
@@ -137,4 +487,28 @@ class BytesIntegrationTests {
 
 	}
 
+	@Test
+	void should_fail_with_unsupported_charset() {
+		// the binding of the annotation fails before any conversion
+		executeTestsForClass(UnsupportedCharsetTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(3).failed(3))
+			.assertThatEvents()
+			.haveExactly(3, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(JUnitException.class), cause( //
+									instanceOf(IllegalArgumentException.class),
+									message("Unsupported charset 'UNKNOWN'")))));
+	}
+
+	static class UnsupportedCharsetTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "a", "b" })
+		@ValueSource(ints = 42)
+		void test(@SuppressWarnings("unused") @Bytes(charset = "UNKNOWN") byte[] bytes) {
+			// never called
+		}
+
+	}
+
 }
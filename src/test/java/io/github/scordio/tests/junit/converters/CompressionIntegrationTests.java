@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Deflate;
+import io.github.scordio.junit.converters.Gzip;
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+class CompressionIntegrationTests {
+
+	private static final byte[] CONTENT = "Hello, compression!".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	void should_decompress_input_instances() {
+		executeTestsForClass(StandaloneTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	static class StandaloneTestCase {
+
+		@ParameterizedTest
+		@MethodSource("gzip")
+		void gzip(@Gzip byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@MethodSource("zlib")
+		void zlib(@Deflate byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@MethodSource("raw")
+		void raw(@Deflate(nowrap = true) byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@MethodSource("gzipStream")
+		void input_stream(@Gzip InputStream inputStream) throws IOException {
+			assertThat(inputStream).hasBinaryContent(CONTENT);
+		}
+
+		static Stream<byte[]> gzip() throws IOException {
+			return Stream.of(compress());
+		}
+
+		static Stream<byte[]> zlib() throws IOException {
+			return Stream.of(deflate(new Deflater()));
+		}
+
+		static Stream<byte[]> raw() throws IOException {
+			return Stream.of(deflate(new Deflater(Deflater.DEFAULT_COMPRESSION, true)));
+		}
+
+		static Stream<InputStream> gzipStream() throws IOException {
+			return Stream.of(new ByteArrayInputStream(compress()));
+		}
+
+		private static byte[] compress() throws IOException {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			try (GZIPOutputStream gzip = new GZIPOutputStream(outputStream)) {
+				gzip.write(CONTENT);
+			}
+			return outputStream.toByteArray();
+		}
+
+		private static byte[] deflate(Deflater deflater) throws IOException {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			try (DeflaterOutputStream deflate = new DeflaterOutputStream(outputStream, deflater)) {
+				deflate.write(CONTENT);
+			}
+			finally {
+				deflater.end();
+			}
+			return outputStream.toByteArray();
+		}
+
+	}
+
+	@Test
+	void should_decode_and_decompress_input_instances() {
+		executeTestsForClass(ComposedTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(8).succeeded(8));
+	}
+
+	static class ComposedTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+		void gzip_base64(@Gzip @Base64 byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+		void base64_gzip(@Base64 @Gzip byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+		void composed_annotation(@GzippedBase64 byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "789cf348cdc9c9d75148cecf2d284a2d2ececccf53040045c70714")
+		void hex_deflate(@Hex @Deflate byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0xf348cdc9c9d75148cecf2d284a2d2ececccf530400")
+		void deflate_hex(@Deflate(nowrap = true) @Hex byte[] bytes) {
+			assertThat(bytes).isEqualTo(CONTENT);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+		void byte_buffer(@Base64(direct = true, readOnly = true) @Gzip ByteBuffer buffer) {
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(CONTENT));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "eJzzSM3JyddRSM7PLShKLS7OzM9TBABFxwcU")
+		void input_stream(@Deflate @Base64 InputStream inputStream) {
+			assertThat(inputStream).hasBinaryContent(CONTENT);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1f8b08000000000000fff348cdc9c9d75148cecf2d284a2d2ececccf5304003436805913000000")
+		void channel(@Gzip @Hex ReadableByteChannel channel) throws IOException {
+			ByteBuffer buffer = ByteBuffer.allocate(CONTENT.length + 1);
+			while (channel.read(buffer) != -1) {
+				// read until the end of the stream
+			}
+			assertThat(buffer.flip()).isEqualTo(ByteBuffer.wrap(CONTENT));
+		}
+
+	}
+
+	@Target(ElementType.PARAMETER)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Gzip
+	@Base64
+	@interface GzippedBase64 {
+
+	}
+
+	@Test
+	void should_fail_with_invalid_values() {
+		executeTestsForClass(InvalidValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(5).failed(5))
+			.assertThatEvents()
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(ArgumentConversionException.class), message("Not in GZIP format"))))
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(IllegalArgumentException.class),
+									message("@Gzip and @Deflate cannot be combined"))))
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(ArgumentConversionException.class),
+									message("Source type java.lang.String is not supported"))))
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(ArgumentConversionException.class),
+									message("Target type java.lang.String is not supported"))))
+			.haveExactly(1, finishedWithFailure(instanceOf(ParameterResolutionException.class),
+					cause(instanceOf(NullPointerException.class), message("'null' is not supported"))));
+	}
+
+	static class InvalidValuesTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "cafebabe")
+		void not_gzip(@Gzip @Hex byte[] bytes) {
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "cafebabe")
+		void gzip_and_deflate(@Gzip @Deflate @Hex byte[] bytes) {
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "cafebabe")
+		void unsupported_source(@Gzip byte[] bytes) {
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "H4sIAAAAAAAA//NIzcnJ11FIzs8tKEotLs7Mz1MEADQ2gFkTAAAA")
+		void unsupported_target(@Gzip @Base64 String string) {
+		}
+
+		@ParameterizedTest
+		@NullSource
+		void null_source(@Gzip byte[] bytes) {
+		}
+
+	}
+
+}
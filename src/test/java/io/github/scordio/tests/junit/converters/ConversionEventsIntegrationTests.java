@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Hex;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+class ConversionEventsIntegrationTests {
+
+	private static final String EVENT_NAME = "io.github.scordio.junit.converters.Conversion";
+
+	@Test
+	void should_emit_events_while_recording(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("conversions.jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+			recording.start();
+			executeTestsForClass(EventsTestCase.class).testEvents()
+				.assertStatistics(stats -> stats.started(3).succeeded(2).failed(1));
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).filteredOn(event -> event.getEventType().getName().equals(EVENT_NAME))
+			.extracting(event -> event.<RecordedClass>getValue("converter").getName(),
+					event -> event.<RecordedClass>getValue("sourceType").getName(),
+					event -> event.<RecordedClass>getValue("targetType").getName(),
+					event -> event.getLong("sourceSize"), event -> event.getLong("resultSize"),
+					event -> event.getBoolean("failed"))
+			.containsExactlyInAnyOrder(
+					tuple("io.github.scordio.junit.converters.HexArgumentConverter", "java.lang.String", "[B", 6L, 3L,
+							false),
+					tuple("io.github.scordio.junit.converters.HexArgumentConverter", "java.lang.String",
+							"java.nio.ByteBuffer", 4L, 2L, false),
+					tuple("io.github.scordio.junit.converters.Base64ArgumentConverter", "java.lang.String", "[B", 1L,
+							0L, true));
+	}
+
+	@Test
+	void should_not_emit_events_without_recording(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("conversions.jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.disable(EVENT_NAME);
+			recording.start();
+			executeTestsForClass(EventsTestCase.class).testEvents()
+				.assertStatistics(stats -> stats.started(3).succeeded(2).failed(1));
+			recording.stop();
+			recording.dump(file);
+		}
+
+		assertThat(RecordingFile.readAllEvents(file))
+			.noneMatch(event -> event.getEventType().getName().equals(EVENT_NAME));
+	}
+
+	static class EventsTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C")
+		void hex(@Hex byte[] bytes) {
+			assertThat(bytes).hasSize(3);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B")
+		void hex_buffer(@Hex ByteBuffer buffer) {
+			assertThat(buffer.remaining()).isEqualTo(2);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "A")
+		void base64(@SuppressWarnings("unused") @Base64 byte[] bytes) {
+			// never called
+		}
+
+	}
+
+}
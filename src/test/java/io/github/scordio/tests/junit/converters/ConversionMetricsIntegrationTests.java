@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.ConversionMetricsListener;
+import io.github.scordio.junit.converters.Hex;
+import io.github.scordio.junit.converters.SpringConversion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+class ConversionMetricsIntegrationTests {
+
+	@Test
+	void should_write_summary(@TempDir Path outputDir) throws IOException {
+		writeSummary(outputDir, 1);
+
+		assertThat(outputDir.resolve("junit-converters-metrics.csv")).content()
+			.startsWith("converter,targetType,count,failures,totalNanos,p99Nanos,inputBytes,outputBytes\n")
+			.containsPattern("(?m)^HexArgumentConverter,byte\\[],2,0,\\d+,\\d+,8,4$")
+			.containsPattern("(?m)^HexArgumentConverter,java.nio.ByteBuffer,1,0,\\d+,\\d+,6,3$")
+			.containsPattern("(?m)^Base64ArgumentConverter,byte\\[],1,1,\\d+,\\d+,1,0$")
+			.containsPattern("(?m)^SpringArgumentConverter,java.lang.Integer,1,0,\\d+,\\d+,2,0$");
+		assertThat(outputDir.resolve("junit-converters-metrics.json")).content()
+			.startsWith("[\n  { \"converter\": ")
+			.contains("\"converter\": \"HexArgumentConverter\", \"targetType\": \"byte[]\", \"count\": 2, ")
+			.endsWith("}\n]\n");
+		assertThat(Files.readAllLines(outputDir.resolve("junit-converters-metrics.csv"))).hasSize(5);
+	}
+
+	@Test
+	void should_reset_metrics_when_the_session_is_opened(@TempDir Path outputDir) {
+		writeSummary(outputDir, 2);
+
+		assertThat(outputDir.resolve("junit-converters-metrics.csv")).content()
+			.containsPattern("(?m)^HexArgumentConverter,byte\\[],2,0,\\d+,\\d+,8,4$");
+	}
+
+	private static void writeSummary(Path outputDir, int sessions) {
+		ConverterConfiguration configuration = ConverterConfiguration.of(Map.of( //
+				"junit.converters.metrics.enabled", "true", //
+				"junit.converters.metrics.output-dir", outputDir.toString()));
+
+		configuration.run(classLoader -> {
+			Class<?> listenerClass = ReflectionSupport
+				.tryToLoadClass(ConversionMetricsListener.class.getName(), classLoader)
+				.getOrThrow(RuntimeException::new);
+			LauncherSessionListener listener = (LauncherSessionListener) ReflectionSupport.newInstance(listenerClass);
+			for (int i = 0; i < sessions; i++) {
+				listener.launcherSessionOpened(null);
+				executeTestsForClass(MetricsTestCase.class, classLoader).testEvents()
+					.assertStatistics(stats -> stats.started(5).succeeded(4).failed(1));
+				listener.launcherSessionClosed(null);
+			}
+		});
+	}
+
+	static class MetricsTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A1B2C", "0A" })
+		void hex(@Hex byte[] bytes) {
+			assertThat(bytes).isNotEmpty();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C")
+		void hex_buffer(@Hex ByteBuffer buffer) {
+			assertThat(buffer.remaining()).isEqualTo(3);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "A")
+		void base64(@SuppressWarnings("unused") @Base64 byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "42")
+		void spring(@SpringConversion Integer integer) {
+			assertThat(integer).isEqualTo(42);
+		}
+
+	}
+
+}
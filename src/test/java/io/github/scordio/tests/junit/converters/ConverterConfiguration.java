@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import io.github.scordio.junit.converters.Hex;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Converter configuration parameters applied to the execution of some test classes only.
+ * <p>
+ * The converters read most configuration parameters once, into static fields. Each
+ * configuration therefore loads the converters and the test classes again with a class
+ * loader of its own, and sets the configuration parameters as system properties while its
+ * tests are executed.
+ */
+final class ConverterConfiguration {
+
+	private static final Object SYSTEM_PROPERTIES_LOCK = new Object();
+
+	private final Map<String, String> parameters;
+
+	private final ClassLoader classLoader = new IsolatingClassLoader();
+
+	private ConverterConfiguration(Map<String, String> parameters) {
+		this.parameters = parameters;
+	}
+
+	static ConverterConfiguration of(Map<String, String> parameters) {
+		return new ConverterConfiguration(parameters);
+	}
+
+	EngineExecutionResults executeTestsForClass(Class<?> testClass) {
+		return call(classLoader -> JupiterEngineTestKit.executeTestsForClass(testClass, classLoader));
+	}
+
+	void run(Consumer<ClassLoader> action) {
+		call(classLoader -> {
+			action.accept(classLoader);
+			return classLoader;
+		});
+	}
+
+	<T> T call(Function<ClassLoader, T> action) {
+		synchronized (SYSTEM_PROPERTIES_LOCK) {
+			Map<String, String> previousValues = new HashMap<>();
+			parameters.forEach((key, value) -> previousValues.put(key, System.setProperty(key, value)));
+			try {
+				return action.apply(classLoader);
+			}
+			finally {
+				previousValues.forEach((key, value) -> {
+					if (value != null) {
+						System.setProperty(key, value);
+					}
+					else {
+						System.clearProperty(key);
+					}
+				});
+			}
+		}
+	}
+
+	private static class IsolatingClassLoader extends URLClassLoader {
+
+		private static final Set<String> TARGET_PACKAGES;
+
+		private static final URL[] CLASSPATH_URLS;
+
+		static {
+			Set<Class<?>> targetClasses = Set.of(ConverterConfiguration.class, Hex.class);
+
+			TARGET_PACKAGES = targetClasses.stream().map(Class::getPackageName).collect(Collectors.toSet());
+
+			CLASSPATH_URLS = targetClasses.stream()
+				.map(Class::getProtectionDomain)
+				.map(ProtectionDomain::getCodeSource)
+				.map(CodeSource::getLocation)
+				.toArray(URL[]::new);
+		}
+
+		private IsolatingClassLoader() {
+			super(CLASSPATH_URLS);
+		}
+
+		@Override
+		public Class<?> loadClass(String name) throws ClassNotFoundException {
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loadedClass = findLoadedClass(name);
+				if (loadedClass != null) {
+					return loadedClass;
+				}
+
+				// Load the converters and the test classes again, bypassing parent
+				// delegation, so that their static fields read the configuration
+				if (TARGET_PACKAGES.stream().anyMatch(name::startsWith)) {
+					return findClass(name);
+				}
+
+				return super.loadClass(name);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.displayName;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.started;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.CorpusSource;
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class CorpusIntegrationTests {
+
+	@Test
+	void should_provide_files() {
+		executeTestsForClass(FilesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(9).succeeded(9))
+			.assertThatEvents()
+			.filteredOn(started())
+			.haveExactly(2, test(displayName("[1] a.bin")))
+			.haveExactly(2, test(displayName("[2] b.bin")))
+			.haveExactly(1, test(displayName("[4] hex.txt")))
+			.haveExactly(1, test(displayName("[5] nested/c.bin")))
+			.haveExactly(1, test(displayName("[1] nested/c.bin")))
+			.haveExactly(1, test(displayName("[1] hex.txt")));
+	}
+
+	static class FilesTestCase {
+
+		@ParameterizedTest
+		@CorpusSource("corpus")
+		void byte_array(byte[] bytes, Path path) throws IOException {
+			assertThat(bytes).isEqualTo(Files.readAllBytes(path));
+		}
+
+		@ParameterizedTest
+		@CorpusSource(value = "src/test/resources/corpus", glob = "nested/*.bin")
+		void byte_buffer(ByteBuffer buffer) {
+			assertThat(buffer.isReadOnly()).isTrue();
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFE }));
+		}
+
+		@ParameterizedTest
+		@CorpusSource(value = "/corpus", glob = "*.bin")
+		void input_stream(InputStream inputStream, Path path) throws IOException {
+			assertThat(inputStream).hasBinaryContent(Files.readAllBytes(path));
+		}
+
+		@ParameterizedTest
+		@CorpusSource(value = "corpus", glob = "*.txt")
+		void explicit_conversion(@Hex byte[] bytes) {
+			assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+		}
+
+	}
+
+	@Test
+	void should_fail_with_missing_directory() {
+		executeTestsForClass(MissingDirectoryTestCase.class).containerEvents()
+			.assertStatistics(stats -> stats.failed(1))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure(instanceOf(IllegalArgumentException.class),
+					message("Classpath resource or directory [missing] does not exist")));
+	}
+
+	static class MissingDirectoryTestCase {
+
+		@ParameterizedTest
+		@CorpusSource("missing")
+		void test(byte[] bytes) {
+			// never called
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.HexFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+class HexFileIntegrationTests {
+
+	@Test
+	void should_convert_supported_values() {
+		executeTestsForClass(SupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(8).succeeded(8));
+	}
+
+	static class SupportedValuesTestCase {
+
+		@ParameterizedTest
+		@MethodSource("hexFileArguments")
+		void test(@HexFile byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> hexFileArguments() {
+			byte[] expected = { 0x0A, 0x1B, 0x2C };
+			return Stream.of( //
+					arguments("files/hex.txt", expected), //
+					arguments("/files/hex.txt", expected), //
+					arguments("src/test/resources/files/hex.txt", expected), //
+					arguments(Paths.get("src/test/resources/files/hex.txt"), expected));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "files/hex.txt", "src/test/resources/files/hex.txt" })
+		void with_byte_buffer(@HexFile ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "files/hex.txt", "src/test/resources/files/hex.txt" })
+		void with_direct_read_only_byte_buffer(@HexFile(direct = true, readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+	}
+
+	@Test
+	void should_fail_with_unsupported_values() {
+		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).failed(4))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(NullPointerException.class), message("'null' is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Source type java.lang.Integer is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Classpath resource or file [files/missing.txt] does not exist"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 1"))));
+	}
+
+	static class UnsupportedValuesTestCase {
+
+		@ParameterizedTest
+		@NullSource
+		@ValueSource(ints = 42)
+		@ValueSource(strings = { "files/missing.txt", "files/invalid-hex.txt" })
+		void test(@SuppressWarnings("unused") @HexFile byte[] bytes) {
+			// never called
+		}
+
+	}
+
+}
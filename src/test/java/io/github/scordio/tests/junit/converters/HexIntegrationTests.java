@@ -15,9 +15,13 @@
  */
 package io.github.scordio.tests.junit.converters;
 
+import static io.github.scordio.junit.converters.Bytes.ByteOrder.LITTLE_ENDIAN;
 import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.Locale.ROOT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
@@ -30,11 +34,24 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.EmptySource;
+import org.junit.jupiter.params.provider.FieldSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.JUnitException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 class HexIntegrationTests {
@@ -42,7 +59,7 @@ class HexIntegrationTests {
 	@Test
 	void should_convert_supported_values() {
 		executeTestsForClass(SupportedValuesTestCase.class).testEvents()
-			.assertStatistics(stats -> stats.started(13).succeeded(13));
+			.assertStatistics(stats -> stats.started(78).succeeded(78));
 	}
 
 	static class SupportedValuesTestCase {
@@ -53,9 +70,21 @@ class HexIntegrationTests {
 			assertThat(bytes).isEqualTo(expected);
 		}
 
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void with_input_stream(@Hex InputStream stream, byte[] expected) {
+			assertThat(stream).hasBinaryContent(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void with_channel(@Hex ReadableByteChannel channel, byte[] expected) {
+			assertThat(Channels.newInputStream(channel)).hasBinaryContent(expected);
+		}
+
 		static Stream<Arguments> hexArguments() {
 			return Stream.concat( //
-					Stream.of(arguments("", new byte[0])), //
+					Stream.of(arguments("", new byte[0]), arguments(new byte[0], new byte[0])), //
 					Stream.of(
 					// @formatter:off
 							new TestCase("00", new byte[1]),
@@ -70,11 +99,463 @@ class HexIntegrationTests {
 
 			private Stream<Arguments> toArguments() {
 				return Stream.of("", "0x")
-					.flatMap(prefix -> Stream.of( //
-							arguments(prefix + actual, expected), //
-							arguments(prefix + actual.toLowerCase(ROOT), expected)));
+					.flatMap(prefix -> Stream.of(prefix + actual, prefix + actual.toLowerCase(ROOT)))
+					.flatMap(value -> Stream.of( //
+							arguments(value, expected), //
+							arguments(value.getBytes(US_ASCII), expected)));
+			}
+
+		}
+
+	}
+
+	@Test
+	void should_convert_to_byte_buffers() {
+		executeTestsForClass(ByteBufferTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	static class ByteBufferTestCase {
+
+		private static final ByteBuffer EXPECTED = ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C });
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C")
+		void with_default_attributes(@Hex ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C")
+		void with_direct_allocation(@Hex(direct = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C")
+		void with_read_only_view(@Hex(readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isFalse();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C")
+		void with_direct_allocation_and_read_only_view(@Hex(direct = true, readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(EXPECTED);
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+	}
+
+	@Test
+	void should_not_copy_large_prefixed_values() {
+		String value = LargeValueTestCase.VALUES.get(0);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+		long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+
+		executeTestsForClass(LargeValueTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(1).succeeded(1));
+
+		// the decoded bytes take half the size of the value, and a copy of the value as
+		// much
+		// again
+		assertThat(threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore).isLessThan(value.length());
+	}
+
+	static class LargeValueTestCase {
+
+		// below the default threshold of the parallel decoding
+		private static final int SIZE = 4 * 1024 * 1024;
+
+		static final List<String> VALUES = List.of("0x" + "0A1b".repeat(SIZE / 2));
+
+		@ParameterizedTest
+		@FieldSource("VALUES")
+		void test(@Hex byte[] bytes) {
+			assertThat(bytes).hasSize(SIZE).startsWith(0x0A, 0x1B).endsWith(0x0A, 0x1B);
+		}
+
+	}
+
+	@Test
+	void should_decode_streams_lazily() {
+		executeTestsForClass(StreamTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(11).succeeded(11));
+	}
+
+	static class StreamTestCase {
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_input_stream(@Hex InputStream stream, byte[] expected) {
+			assertThat(stream).hasBinaryContent(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_channel(@Hex ReadableByteChannel channel, byte[] expected) {
+			assertThat(Channels.newInputStream(channel)).hasBinaryContent(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("largeArguments")
+		void with_large_input_stream_read_byte_by_byte(@Hex InputStream stream, byte[] expected) throws IOException {
+			assertThat(readByteByByte(stream)).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> largeArguments() {
+			byte[] bytes = new byte[100_003];
+			new Random(42).nextBytes(bytes);
+			return Stream.of(arguments("0x" + HexFormat.of().formatHex(bytes), bytes));
+		}
+
+		@ParameterizedTest
+		@MethodSource("malformedArguments")
+		void with_malformed_input(@Hex InputStream stream, String message) {
+			assertThatIOException().isThrownBy(stream::readAllBytes).withMessage(message);
+		}
+
+		@ParameterizedTest
+		@MethodSource("malformedArguments")
+		void with_malformed_input_read_byte_by_byte(@Hex InputStream stream, String message) {
+			assertThatIOException().isThrownBy(() -> readByteByByte(stream)).withMessage(message);
+		}
+
+		private static byte[] readByteByByte(InputStream stream) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			for (int b = stream.read(); b != -1; b = stream.read()) {
+				bytes.write(b);
+			}
+			return bytes.toByteArray();
+		}
+
+		static Stream<Arguments> malformedArguments() {
+			return Stream.of( //
+					arguments("0x", "Hex string must contain at least one hex digit after '0x' prefix"),
+					arguments("0A1", "Hex string must have even length"),
+					arguments("0x0AG1", "Invalid hex character at position 2"),
+					arguments("0A1\u00C9", "Invalid hex character at position 3"));
+		}
+
+	}
+
+	@Test
+	void should_decode_numeric_targets() {
+		executeTestsForClass(NumericTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(17).succeeded(17));
+	}
+
+	static class NumericTestCase {
+
+		@ParameterizedTest
+		@MethodSource("intValues")
+		void int_with_big_endian_order(@Hex int value) {
+			assertThat(value).isEqualTo(0x12345678);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "78563412")
+		void int_with_little_endian_order(@Hex(order = LITTLE_ENDIAN) Integer value) {
+			assertThat(value).isEqualTo(0x12345678);
+		}
+
+		static Stream<Object> intValues() {
+			return Stream.of("12345678", "0x12345678", "12345678".getBytes(US_ASCII));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "FFFFFFFFFFFFFFFE")
+		void long_with_big_endian_order(@Hex long value) {
+			assertThat(value).isEqualTo(-2L);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "3D2C1B0A78563412")
+		void long_with_little_endian_order(@Hex(order = LITTLE_ENDIAN) long value) {
+			assertThat(value).isEqualTo(0x123456780A1B2C3DL);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "FF01", "0xff01" })
+		void big_integer_with_big_endian_order(@Hex BigInteger value) {
+			assertThat(value).isEqualTo(BigInteger.valueOf(0xFF01));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "01FF")
+		void big_integer_with_little_endian_order(@Hex(order = LITTLE_ENDIAN) BigInteger value) {
+			assertThat(value).isEqualTo(BigInteger.valueOf(0xFF01));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "")
+		void big_integer_with_empty_value(@Hex BigInteger value) {
+			assertThat(value).isZero();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "12345678")
+		void short_array(@Hex short[] array) {
+			assertThat(array).containsExactly((short) 0x1234, (short) 0x5678);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "3412CDAB")
+		void short_array_with_little_endian_order(@Hex(order = LITTLE_ENDIAN) short[] array) {
+			assertThat(array).containsExactly((short) 0x1234, (short) 0xABCD);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "123456780A1B2C3D")
+		void int_array(@Hex int[] array) {
+			assertThat(array).containsExactly(0x12345678, 0x0A1B2C3D);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "3D2C1B0A78563412")
+		void long_array_with_little_endian_order(@Hex(order = LITTLE_ENDIAN) long[] array) {
+			assertThat(array).containsExactly(0x123456780A1B2C3DL);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "3FC00000C0000000")
+		void float_array(@Hex float[] array) {
+			assertThat(array).containsExactly(1.5f, -2f);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "000000000000F83F")
+		void double_array_with_little_endian_order(@Hex(order = LITTLE_ENDIAN) double[] array) {
+			assertThat(array).containsExactly(1.5);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "")
+		void empty_array(@Hex int[] array) {
+			assertThat(array).isEmpty();
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_numeric_values() {
+		executeTestsForClass(InvalidNumericValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(5).failed(5))
+			.assertThatEvents()
+			.haveExactly(2, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message(value -> value.matches("Expected 4 bytes for target type int but found [35]")))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Expected a multiple of 8 bytes for target type long[] but found 4"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 5"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Hex string must have even length"))));
+	}
+
+	static class InvalidNumericValuesTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "123456", "1234567890", "0x12345G78", "1234567" })
+		void int_value(@SuppressWarnings("unused") @Hex int value) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "12345678")
+		void long_array(@SuppressWarnings("unused") @Hex long[] array) {
+			// never called
+		}
+
+	}
+
+	@Test
+	void should_decode_text_layouts() {
+		executeTestsForClass(TextTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(14).succeeded(14));
+	}
+
+	static class TextTestCase {
+
+		static final byte[] SAMPLE = concat("Hello, hexdump world!\n".getBytes(US_ASCII), new byte[] { 0x00, 0x01, 0x02,
+				0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0a, 0x0b, 0x0c, 0x0d, 0x0e, 0x0f, '|' });
+
+		static final String XXD = """
+				00000000: 4865 6c6c 6f2c 2068 6578 6475 6d70 2077  Hello, hexdump w
+				00000010: 6f72 6c64 210a 0001 0203 0405 0607 0809  orld!...........
+				00000020: 0a0b 0c0d 0e0f 7c                        ......|
+				""";
+
+		static final String HEXDUMP = """
+				00000000  48 65 6c 6c 6f 2c 20 68  65 78 64 75 6d 70 20 77  |Hello, hexdump w|
+				00000010  6f 72 6c 64 21 0a 00 01  02 03 04 05 06 07 08 09  |orld!...........|
+				00000020  0a 0b 0c 0d 0e 0f 7c                              |......||
+				00000027
+				""";
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A:1B:2C", "0a-1b-2c", "0x0A 1B 2C", "0A:1B-2C" })
+		void with_separators(@Hex(separators = ":- ") byte[] bytes) {
+			assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = """
+				0A1B
+					2C3D\r
+				""")
+		void with_whitespace(@Hex(ignoreWhitespace = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C, 0x3D }));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "78:56:34:12")
+		void with_separators_to_int(@Hex(separators = ":", order = LITTLE_ENDIAN) int value) {
+			assertThat(value).isEqualTo(0x12345678);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { XXD, XXD + "\n\n" })
+		void with_xxd(@Hex(format = Hex.Format.XXD) byte[] bytes) {
+			assertThat(bytes).isEqualTo(SAMPLE);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = XXD)
+		void with_xxd_stream(@Hex(format = Hex.Format.XXD) InputStream stream) {
+			assertThat(stream).hasBinaryContent(SAMPLE);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = XXD)
+		void with_xxd_stream_read_byte_by_byte(@Hex(format = Hex.Format.XXD) InputStream stream) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			for (int b = stream.read(); b != -1; b = stream.read()) {
+				bytes.write(b);
 			}
+			assertThat(bytes.toByteArray()).isEqualTo(SAMPLE);
+		}
+
+		@ParameterizedTest
+		@MethodSource("hexdumps")
+		void with_hexdump(@Hex(format = Hex.Format.HEXDUMP) byte[] bytes) {
+			assertThat(bytes).isEqualTo(SAMPLE);
+		}
+
+		static Stream<Object> hexdumps() {
+			return Stream.of(HEXDUMP, HEXDUMP.replace("\n", "\r\n"), HEXDUMP.getBytes(US_ASCII));
+		}
 
+		@ParameterizedTest
+		@ValueSource(strings = HEXDUMP)
+		void with_hexdump_channel(@Hex(format = Hex.Format.HEXDUMP) ReadableByteChannel channel) {
+			assertThat(Channels.newInputStream(channel)).hasBinaryContent(SAMPLE);
+		}
+
+		private static byte[] concat(byte[] first, byte[] second) {
+			byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+			System.arraycopy(second, 0, bytes, first.length, second.length);
+			return bytes;
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_text_layouts() {
+		executeTestsForClass(InvalidTextTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(9).failed(9))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Hex string must have even length"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 0"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 1"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 2"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 3"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 4"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 56"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Repeated lines are not supported, found '*' at line 2: "
+									+ "dump every line, like with 'hexdump -v -C'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(JUnitException.class), cause( //
+									instanceOf(IllegalArgumentException.class),
+									message("Separator 'a' must be an ASCII character other than a hex digit")))));
+	}
+
+	static class InvalidTextTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A:1", "0:A1", "0A1B\n" })
+		void with_separators(@SuppressWarnings("unused") @Hex(separators = ":") byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { ":0A", "0A:", "0A::1B" })
+		void with_misplaced_separators(@SuppressWarnings("unused") @Hex(separators = ":") byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = """
+				00000000: 4865 6c6c 6f2c  Hello,
+				00000006: 2068 6578 647g   hexdu
+				""")
+		void with_xxd(@SuppressWarnings("unused") @Hex(format = Hex.Format.XXD) byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = """
+				00000000  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|
+				*
+				00000020
+				""")
+		void with_hexdump(@SuppressWarnings("unused") @Hex(format = Hex.Format.HEXDUMP) byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A")
+		void with_invalid_separator(@SuppressWarnings("unused") @Hex(separators = "a") byte[] bytes) {
+			// never called
 		}
 
 	}
@@ -82,27 +563,28 @@ class HexIntegrationTests {
 	@Test
 	void should_fail_with_unsupported_values() {
 		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
-			.assertStatistics(stats -> stats.started(9).failed(9))
+			.assertStatistics(stats -> stats.started(20).failed(20))
 			.assertThatEvents()
 			.haveExactly(1, finishedWithFailure( //
 					instanceOf(ParameterResolutionException.class), cause( //
 							instanceOf(NullPointerException.class), message("'null' is not supported"))))
-			.haveExactly(1, finishedWithFailure( // https://github.com/junit-team/junit-framework/issues/4801
-					instanceOf(ParameterResolutionException.class),
-					message("Error converting parameter at index 0: HexArgumentConverter cannot convert objects of type [byte[]]. Only source objects of type [java.lang.String] are supported.")))
-			.haveExactly(3, finishedWithFailure( //
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Source type java.lang.Integer is not supported"))))
+			.haveExactly(6, finishedWithFailure( //
 					instanceOf(ParameterResolutionException.class), cause( //
 							instanceOf(ArgumentConversionException.class),
 							message("Hex string must have even length"))))
-			.haveExactly(2, finishedWithFailure( //
+			.haveExactly(4, finishedWithFailure( //
 					instanceOf(ParameterResolutionException.class), cause( //
 							instanceOf(ArgumentConversionException.class),
 							message("Invalid hex character at position 0"))))
-			.haveExactly(1, finishedWithFailure( //
+			.haveExactly(6, finishedWithFailure( //
 					instanceOf(ParameterResolutionException.class), cause( //
 							instanceOf(ArgumentConversionException.class),
 							message("Invalid hex character at position 1"))))
-			.haveExactly(1, finishedWithFailure( //
+			.haveExactly(2, finishedWithFailure( //
 					instanceOf(ParameterResolutionException.class), cause( //
 							instanceOf(ArgumentConversionException.class),
 							message("Hex string must contain at least one hex digit after '0x' prefix"))));
@@ -112,12 +594,17 @@ class HexIntegrationTests {
 
 		@ParameterizedTest
 		@NullSource
-		@EmptySource // https://github.com/junit-team/junit-framework/issues/4801
-		@ValueSource(strings = { " ", "A", "  ", "AG", "GG", "AAA", "0x" })
+		@ValueSource(ints = 42)
+		@MethodSource("unsupportedValues")
 		void test(@SuppressWarnings("unused") @Hex byte[] bytes) {
 			// never called
 		}
 
+		static Stream<Object> unsupportedValues() {
+			return Stream.of(" ", "A", "  ", "AG", "GG", "AAA", "0x", "0xAG", "A\u00C9")
+				.flatMap(value -> Stream.of(value, value.getBytes(ISO_8859_1)));
+		}
+
 	}
 
 }
@@ -19,6 +19,8 @@ import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.EngineTestKit;
 
+import java.util.Map;
+
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
@@ -32,6 +34,12 @@ class JupiterEngineTestKit {
 		return executeTestsFor(selectClass(classLoader, testClass.getName()));
 	}
 
+	static EngineExecutionResults executeTestsForClass(Class<?> testClass,
+			Map<String, String> configurationParameters) {
+		return EngineTestKit.execute("junit-jupiter",
+				request().selectors(selectClass(testClass)).configurationParameters(configurationParameters).build());
+	}
+
 	private static EngineExecutionResults executeTestsFor(DiscoverySelector... selectors) {
 		return EngineTestKit.execute("junit-jupiter", request().selectors(selectors).build());
 	}
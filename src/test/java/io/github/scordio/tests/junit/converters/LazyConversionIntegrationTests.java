@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Bytes;
+import io.github.scordio.junit.converters.Hex;
+import io.github.scordio.junit.converters.SpringConversion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.convert.ConversionFailedException;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+class LazyConversionIntegrationTests {
+
+	@Test
+	void should_convert_lazily() {
+		executeTestsForClass(LazyTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(7).succeeded(5).aborted(2));
+	}
+
+	static class LazyTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B")
+		void hex(@Hex Supplier<byte[]> bytes) {
+			assertThat(bytes.get()).containsExactly(0x0A, 0x1B).isSameAs(bytes.get());
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "Pz8/")
+		void base64(@Base64(readOnly = true) Supplier<ByteBuffer> buffer) {
+			assertThat(buffer.get().isReadOnly()).isTrue();
+			assertThat(buffer.get()).isEqualTo(ByteBuffer.wrap(new byte[] { 63, 63, 63 }));
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = 42)
+		void bytes(@Bytes Supplier<byte[]> bytes) {
+			assertThat(bytes.get()).containsExactly(0, 0, 0, 42);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1,2,3")
+		void spring_conversion(@SpringConversion Supplier<List<Integer>> list) {
+			assertThat(list.get()).containsExactly(1, 2, 3);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "PT1S")
+		void spring_conversion_to_duration(@SpringConversion Supplier<Duration> duration) {
+			assertThat(duration.get()).isEqualTo(Duration.ofSeconds(1));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A", "invalid" })
+		void never_called(@Hex Supplier<byte[]> bytes) {
+			assumeTrue(bytes.toString().contains("pending"));
+			assumeTrue(false);
+		}
+
+	}
+
+	@Test
+	void should_convert_fields_lazily() {
+		executeTestsForClass(FieldTestCase.class).testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+	}
+
+	@ParameterizedClass
+	@ValueSource(strings = "0A1B")
+	static class FieldTestCase {
+
+		@Parameter
+		@Hex
+		Supplier<byte[]> bytes;
+
+		@Test
+		void test() {
+			assertThat(bytes.get()).containsExactly(0x0A, 0x1B);
+		}
+
+	}
+
+	@Test
+	void should_fail_when_called() {
+		executeTestsForClass(FailureTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(2).failed(2))
+			.assertThatEvents()
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 0")))
+			.haveExactly(1, finishedWithFailure(instanceOf(ConversionFailedException.class)));
+	}
+
+	static class FailureTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "zz")
+		void hex(@Hex Supplier<byte[]> bytes) {
+			assertThat(bytes.get()).isNotNull();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "one")
+		void spring_conversion(@SpringConversion Supplier<Integer> integer) {
+			assertThat(integer.get()).isNotNull();
+		}
+
+	}
+
+	@Test
+	void should_fail_with_unresolved_type() {
+		executeTestsForClass(UnresolvedTypeTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(2).failed(2))
+			.assertThatEvents()
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(ArgumentConversionException.class),
+									message("Target type java.util.function.Supplier is not supported"))))
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(ArgumentConversionException.class),
+									message("Target type java.util.function.Supplier<?> is not supported"))));
+	}
+
+	static class UnresolvedTypeTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A")
+		@SuppressWarnings("rawtypes")
+		void raw(@Hex Supplier bytes) {
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A")
+		void wildcard(@SpringConversion Supplier<?> bytes) {
+		}
+
+	}
+
+}
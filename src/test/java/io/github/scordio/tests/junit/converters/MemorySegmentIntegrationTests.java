@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.junit.converters.Bytes.ByteOrder.LITTLE_ENDIAN;
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT_UNALIGNED;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Bytes;
+import io.github.scordio.junit.converters.Hex;
+import io.github.scordio.junit.converters.ScopedArena;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.JUnitException;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class MemorySegmentIntegrationTests {
+
+	@Test
+	void should_convert_to_segments() {
+		executeTestsForClass(SupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(10).succeeded(10));
+	}
+
+	static class SupportedValuesTestCase {
+
+		private static final byte[] EXPECTED = { 0x0A, 0x1B, 0x2C, 0x3D };
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A1B2C3D", "0x0a1b2c3d" })
+		void with_hex(@Hex MemorySegment segment) {
+			assertThat(segment.isNative()).isTrue();
+			assertThat(segment.toArray(JAVA_BYTE)).isEqualTo(EXPECTED);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "")
+		void with_empty_hex(@Hex MemorySegment segment) {
+			assertThat(segment.byteSize()).isZero();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "ChssPQ==", "ChssPQ" })
+		void with_base64(@Base64 MemorySegment segment) {
+			assertThat(segment.isNative()).isTrue();
+			assertThat(segment.toArray(JAVA_BYTE)).isEqualTo(EXPECTED);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "Chss\r\nPQ==")
+		void with_mime_base64(@Base64(encoding = Base64.Encoding.MIME) MemorySegment segment) {
+			assertThat(segment.toArray(JAVA_BYTE)).isEqualTo(EXPECTED);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "abc")
+		void with_string(@Bytes(charset = "US-ASCII") MemorySegment segment) {
+			assertThat(segment.toArray(JAVA_BYTE)).isEqualTo("abc".getBytes(US_ASCII));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "1,2")
+		void with_delimited_numbers(@Bytes(numberType = int.class, order = LITTLE_ENDIAN) MemorySegment segment) {
+			assertThat(segment.byteSize()).isEqualTo(8);
+			assertThat(segment.get(JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), 0)).isEqualTo(1);
+			assertThat(segment.get(JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), 4)).isEqualTo(2);
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = 0x0A1B2C3D)
+		void with_number(@Bytes MemorySegment segment) {
+			assertThat(segment.toArray(JAVA_BYTE)).isEqualTo(EXPECTED);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A1B2C3D")
+		void with_alignment(@Hex(alignment = 64) MemorySegment segment) {
+			assertThat(segment.address() % 64).isZero();
+		}
+
+	}
+
+	@Test
+	void should_close_scoped_arenas() {
+		ArenaTestCase.SEGMENTS.clear();
+
+		executeTestsForClass(ArenaTestCase.class).testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+
+		assertThat(ArenaTestCase.SEGMENTS).hasSize(3)
+			.filteredOn(segment -> segment.scope().isAlive())
+			.singleElement()
+			.isSameAs(ArenaTestCase.SEGMENTS.get(0));
+	}
+
+	static class ArenaTestCase {
+
+		static final List<MemorySegment> SEGMENTS = new CopyOnWriteArrayList<>();
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A")
+		void auto(@Hex MemorySegment segment) {
+			assertThat(segment.scope().isAlive()).isTrue();
+			SEGMENTS.add(0, segment);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0A")
+		void confined(@Hex @ScopedArena MemorySegment segment) {
+			assertThat(segment.get(JAVA_BYTE, 0)).isEqualTo((byte) 0x0A);
+			SEGMENTS.add(segment);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "Cg==")
+		void shared(@Base64 @ScopedArena(shared = true) MemorySegment segment) {
+			assertThat(segment.get(JAVA_BYTE, 0)).isEqualTo((byte) 0x0A);
+			SEGMENTS.add(segment);
+		}
+
+	}
+
+	@Test
+	void should_close_scoped_arenas_of_fields() {
+		FieldTestCase.SEGMENTS.clear();
+
+		executeTestsForClass(FieldTestCase.class).testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+
+		assertThat(FieldTestCase.SEGMENTS).hasSize(2).noneMatch(segment -> segment.scope().isAlive());
+	}
+
+	@ParameterizedClass
+	@ValueSource(strings = { "0A", "1B" })
+	static class FieldTestCase {
+
+		static final List<MemorySegment> SEGMENTS = new CopyOnWriteArrayList<>();
+
+		@Parameter
+		@Hex
+		@ScopedArena(shared = true)
+		MemorySegment segment;
+
+		@Test
+		void test() {
+			assertThat(segment.scope().isAlive()).isTrue();
+			SEGMENTS.add(segment);
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_values() {
+		executeTestsForClass(InvalidValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(2).failed(2))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 1"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(JUnitException.class), cause( //
+									instanceOf(IllegalArgumentException.class),
+									message("Alignment must be a power of two but was 3")))));
+	}
+
+	static class InvalidValuesTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = "0G")
+		void invalid_hex(@SuppressWarnings("unused") @Hex @ScopedArena MemorySegment segment) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "00")
+		void invalid_alignment(@SuppressWarnings("unused") @Hex(alignment = 3) MemorySegment segment) {
+			// never called
+		}
+
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.junit.converters.Base64.Encoding.URL;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ParallelDecodingIntegrationTests {
+
+	private static final ConverterConfiguration PARALLEL_DECODING = ConverterConfiguration
+		.of(Map.of("junit.converters.parallel.threshold", "65536"));
+
+	// above the configured threshold
+	private static final int SIZE = 1024 * 1024;
+
+	@Test
+	void should_decode_large_hex_payloads() {
+		PARALLEL_DECODING.executeTestsForClass(HexTestCase.class)
+			.testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	static class HexTestCase {
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void test(@Hex byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void with_byte_buffer(@Hex ByteBuffer buffer, byte[] expected) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(expected));
+		}
+
+		static Stream<Arguments> hexArguments() {
+			byte[] bytes = randomBytes(SIZE);
+			String hex = HexFormat.of().formatHex(bytes);
+			return Stream.of(arguments("0x" + hex, bytes), arguments(hex.getBytes(ISO_8859_1), bytes));
+		}
+
+	}
+
+	@Test
+	void should_decode_large_base64_payloads() {
+		PARALLEL_DECODING.executeTestsForClass(Base64TestCase.class)
+			.testEvents()
+			.assertStatistics(stats -> stats.started(13).succeeded(13));
+	}
+
+	static class Base64TestCase {
+
+		@ParameterizedTest
+		@MethodSource("basicArguments")
+		void test(@Base64 byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		@ParameterizedTest
+		@MethodSource("basicArguments")
+		void with_byte_buffer(@Base64 ByteBuffer buffer, byte[] expected) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(expected));
+		}
+
+		static Stream<Arguments> basicArguments() {
+			// every length of the last quantum, padded or not
+			return IntStream.rangeClosed(0, 2).boxed().flatMap(extra -> {
+				byte[] bytes = randomBytes(SIZE + extra);
+				return Stream.of(arguments(java.util.Base64.getEncoder().encodeToString(bytes), bytes),
+						arguments(java.util.Base64.getEncoder().withoutPadding().encode(bytes), bytes));
+			});
+		}
+
+		@ParameterizedTest
+		@MethodSource("urlArguments")
+		void with_url_encoding(@Base64(encoding = URL) byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> urlArguments() {
+			byte[] bytes = randomBytes(SIZE);
+			return Stream.of(arguments(java.util.Base64.getUrlEncoder().encodeToString(bytes), bytes));
+		}
+
+	}
+
+	@Test
+	void should_report_the_first_invalid_character() {
+		PARALLEL_DECODING.executeTestsForClass(InvalidValuesTestCase.class)
+			.testEvents()
+			.assertStatistics(stats -> stats.started(4).failed(4))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid hex character at position 1000001"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class), message("Illegal base64 character 2a"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class),
+							message("Input byte array has wrong 4-byte ending unit"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(IllegalArgumentException.class),
+							message("Input byte array has incorrect ending byte at 1398104"))));
+	}
+
+	static class InvalidValuesTestCase {
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void hex(@SuppressWarnings("unused") @Hex byte[] bytes) {
+			// never called
+		}
+
+		static Stream<String> hexArguments() {
+			// the invalid characters of the later chunks must not be reported first
+			return Stream.of(replace(HexFormat.of().formatHex(randomBytes(SIZE)), "zz", 1_000_001, 2_000_000));
+		}
+
+		@ParameterizedTest
+		@MethodSource("base64Arguments")
+		void base64(@SuppressWarnings("unused") @Base64 byte[] bytes) {
+			// never called
+		}
+
+		static Stream<String> base64Arguments() {
+			String base64 = java.util.Base64.getEncoder().encodeToString(randomBytes(SIZE));
+			return Stream.of(replace(base64, "*", 500_000), replace(base64, "=", 600_000), base64 + "A");
+		}
+
+		private static String replace(String source, String replacement, int... indexes) {
+			StringBuilder builder = new StringBuilder(source);
+			for (int index : indexes) {
+				builder.replace(index, index + replacement.length(), replacement);
+			}
+			return builder.toString();
+		}
+
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+}
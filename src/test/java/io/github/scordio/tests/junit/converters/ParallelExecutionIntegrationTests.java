@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Bytes;
+import io.github.scordio.junit.converters.Hex;
+import io.github.scordio.junit.converters.HexFile;
+import io.github.scordio.junit.converters.SpringConversion;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Runs every converter at scale under parallel execution, checking the results of the
+ * conversions performed by each thread.
+ * <p>
+ * Tagged as a stress test, excluded from the default build and run with the
+ * {@code stress} profile. The throughput of the converters is measured by the JMH
+ * benchmarks instead.
+ */
+@Tag("stress")
+class ParallelExecutionIntegrationTests {
+
+	private static final int INVOCATIONS = 250;
+
+	private static final int TEST_METHODS = 6;
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 4, 8 })
+	void should_convert_concurrently(int parallelism) {
+		WorkloadTestCase.THREADS.clear();
+
+		EngineExecutionResults results = executeTestsForClass(WorkloadTestCase.class, Map.of( //
+				"junit.jupiter.execution.parallel.enabled", "true", //
+				"junit.jupiter.execution.parallel.mode.default", "concurrent", //
+				"junit.jupiter.execution.parallel.config.strategy", "fixed", //
+				"junit.jupiter.execution.parallel.config.fixed.parallelism", String.valueOf(parallelism)));
+
+		results.testEvents()
+			.assertStatistics(stats -> stats.started(TEST_METHODS * INVOCATIONS).succeeded(TEST_METHODS * INVOCATIONS));
+		if (parallelism > 1) {
+			assertThat(WorkloadTestCase.THREADS).hasSizeGreaterThan(1);
+		}
+	}
+
+	@Test
+	void should_convert_concurrently_on_virtual_threads() throws Exception {
+		int executions = 4;
+		WorkloadTestCase.THREADS.clear();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<EngineExecutionResults>> futures = IntStream.range(0, executions)
+				.mapToObj(i -> executor.submit(() -> executeTestsForClass(WorkloadTestCase.class)))
+				.toList();
+			for (Future<EngineExecutionResults> future : futures) {
+				future.get()
+					.testEvents()
+					.assertStatistics(
+							stats -> stats.started(TEST_METHODS * INVOCATIONS).succeeded(TEST_METHODS * INVOCATIONS));
+			}
+		}
+
+		assertThat(WorkloadTestCase.THREADS).hasSize(executions).allMatch(Thread::isVirtual);
+	}
+
+	static class WorkloadTestCase {
+
+		// the threads that checked a conversion result against its expected value
+		static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+
+		private static final List<byte[]> PAYLOADS = new Random(42).ints(40, 1, 256).mapToObj(size -> {
+			byte[] bytes = new byte[size];
+			new Random(size).nextBytes(bytes);
+			return bytes;
+		}).toList();
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void hex(@Hex byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+			THREADS.add(Thread.currentThread());
+		}
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void hex_direct_buffer(@Hex(direct = true) ByteBuffer buffer, byte[] expected) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(expected));
+			THREADS.add(Thread.currentThread());
+		}
+
+		static Stream<Arguments> hexArguments() {
+			return payloads().map(bytes -> arguments(HexFormat.of().formatHex(bytes), bytes));
+		}
+
+		@ParameterizedTest
+		@MethodSource("base64Arguments")
+		void base64(@Base64 byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+			THREADS.add(Thread.currentThread());
+		}
+
+		static Stream<Arguments> base64Arguments() {
+			return payloads().map(bytes -> arguments(java.util.Base64.getEncoder().encodeToString(bytes), bytes));
+		}
+
+		@ParameterizedTest
+		@MethodSource("numbers")
+		void bytes(@Bytes byte[] bytes, int expected) {
+			assertThat(ByteBuffer.wrap(bytes).getInt()).isEqualTo(expected);
+			THREADS.add(Thread.currentThread());
+		}
+
+		@ParameterizedTest
+		@MethodSource("numbers")
+		void spring(@SpringConversion String string, int expected) {
+			assertThat(string).isEqualTo(String.valueOf(expected));
+			THREADS.add(Thread.currentThread());
+		}
+
+		static Stream<Arguments> numbers() {
+			return IntStream.range(0, INVOCATIONS).mapToObj(i -> arguments(i, i));
+		}
+
+		@ParameterizedTest
+		@MethodSource("files")
+		void hex_file(@HexFile byte[] bytes) {
+			assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+			THREADS.add(Thread.currentThread());
+		}
+
+		static Stream<String> files() {
+			return Stream.generate(() -> "files/hex.txt").limit(INVOCATIONS);
+		}
+
+		private static Stream<byte[]> payloads() {
+			return IntStream.range(0, INVOCATIONS).mapToObj(i -> PAYLOADS.get(i % PAYLOADS.size()));
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import io.github.scordio.junit.converters.Base64;
+import io.github.scordio.junit.converters.Hex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class PayloadCacheIntegrationTests {
+
+	private static final ConverterConfiguration CACHE_ENABLED = ConverterConfiguration
+		.of(Map.of("junit.converters.cache.enabled", "true", "junit.converters.cache.max-bytes", "4096"));
+
+	@Test
+	void should_isolate_cached_payloads() {
+		CACHE_ENABLED.executeTestsForClass(CachedPayloadsTestCase.class)
+			.testEvents()
+			.assertStatistics(stats -> stats.started(15).succeeded(15));
+	}
+
+	static class CachedPayloadsTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A1B2C", "0A1B2C", "0A1B2C" })
+		void hex_byte_array(@Hex byte[] bytes) {
+			assertThat(bytes).containsExactly(0x0A, 0x1B, 0x2C);
+			Arrays.fill(bytes, (byte) 0);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A1B2C", "0A1B2C", "0A1B2C" })
+		void hex_byte_buffer(@Hex ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+			buffer.put(0, (byte) 0);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "0A1B2C", "0A1B2C", "0A1B2C" })
+		void hex_read_only_byte_buffer(@Hex(readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 0x0A, 0x1B, 0x2C }));
+			assertThat(buffer.isReadOnly()).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "Pz8/", "Pz8/" })
+		void base64_byte_array(@Base64 byte[] bytes) {
+			assertThat(bytes).containsExactly(63, 63, 63);
+			Arrays.fill(bytes, (byte) 0);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "Pz8/", "Pz8/" })
+		void base64_byte_buffer(@Base64 ByteBuffer buffer) {
+			assertThat(buffer).isEqualTo(ByteBuffer.wrap(new byte[] { 63, 63, 63 }));
+			buffer.put(0, (byte) 0);
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = { "Pz8_", "Pz8_" })
+		void base64_url_byte_array(@Base64(encoding = Base64.Encoding.URL) byte[] bytes) {
+			assertThat(bytes).containsExactly(63, 63, 63);
+			Arrays.fill(bytes, (byte) 0);
+		}
+
+	}
+
+	@Test
+	void should_evict_payloads_beyond_the_maximum_size() {
+		CACHE_ENABLED.executeTestsForClass(EvictedPayloadsTestCase.class)
+			.testEvents()
+			.assertStatistics(stats -> stats.started(300).succeeded(300));
+	}
+
+	static class EvictedPayloadsTestCase {
+
+		@ParameterizedTest
+		@MethodSource("hexArguments")
+		void hex_byte_array(@Hex byte[] bytes, byte[] expected) {
+			assertThat(bytes).isEqualTo(expected);
+		}
+
+		static Stream<Arguments> hexArguments() {
+			// 100 entries of 192 bytes each, counting their sources, accessed 3 times
+			return IntStream.range(0, 300).mapToObj(i -> {
+				byte[] bytes = new byte[64];
+				new Random(i % 100).nextBytes(bytes);
+				return arguments(HexFormat.of().formatHex(bytes), bytes);
+			});
+		}
+
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.Payload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+class PayloadIntegrationTests {
+
+	@Test
+	void should_generate_random_payloads() {
+		executeTestsForClass(RandomTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(11).succeeded(11));
+	}
+
+	static class RandomTestCase {
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', textBlock = """
+				size=8          | afcd1d7b39a820e2
+				size=8, seed=0  | afcd1d7b39a820e2
+				size=8,seed=42  | 956eeb2f2632d7bd
+				seed=42, size=3 | 956eeb
+				size=0          | ''
+				""")
+		void test(@Payload byte[] bytes, String expected) {
+			assertThat(bytes).isEqualTo(HexFormat.of().parseHex(expected));
+		}
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', textBlock = """
+				size=1K   | 1024
+				size=1KiB | 1024
+				size=2Mi  | 2097152
+				size=5B   | 5
+				""")
+		void with_units(@Payload byte[] bytes, int expected) {
+			assertThat(bytes).hasSize(expected);
+		}
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', value = "size=1MiB, seed=7 | size=20, seed=7")
+		void with_prefix_of_larger_payload(@Payload byte[] large, @Payload byte[] small) {
+			assertThat(Arrays.copyOf(large, small.length)).isEqualTo(small);
+		}
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', value = "size=16, seed=0x2A | size=16, seed=42")
+		void with_hex_seed(@Payload byte[] actual, @Payload byte[] expected) {
+			assertThat(actual).isEqualTo(expected);
+		}
+
+	}
+
+	@Test
+	void should_generate_repeated_patterns() {
+		executeTestsForClass(PatternTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(5).succeeded(5));
+	}
+
+	static class PatternTestCase {
+
+		@ParameterizedTest
+		@CsvSource(delimiter = '|', textBlock = """
+				0xDEADBEEF * 3 | deadbeefdeadbeefdeadbeef
+				ab*2           | abab
+				0x0102 * 0     | ''
+				""")
+		void test(@Payload byte[] bytes, String expected) {
+			assertThat(bytes).isEqualTo(HexFormat.of().parseHex(expected));
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0x010203 * 1M")
+		void with_large_count(@Payload byte[] bytes) {
+			assertThat(bytes).hasSize(3 * 1024 * 1024);
+			for (int i = 0; i < bytes.length; i++) {
+				assertThat(bytes[i]).isEqualTo((byte) (i % 3 + 1));
+			}
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "0xCAFE * 1K")
+		void with_byte_buffer(@Payload(direct = true, readOnly = true) ByteBuffer buffer) {
+			assertThat(buffer.isDirect()).isTrue();
+			assertThat(buffer.isReadOnly()).isTrue();
+			assertThat(buffer.remaining()).isEqualTo(2048);
+			assertThat(buffer.getShort(2046)).isEqualTo((short) 0xCAFE);
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_specifications() {
+		executeTestsForClass(InvalidSpecificationsTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(9).failed(9))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class), message("Invalid size 'abc'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class), message("Invalid seed 'x'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Missing payload size in 'seed=1'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Unknown payload attribute 'color'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid payload specification 'size=1,'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Invalid payload specification ' * 2'"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Hex string must have even length"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Size '4GiB' exceeds the maximum of 2147483639 bytes"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Payload size 2147483648 exceeds the maximum of 2147483639 bytes"))));
+	}
+
+	static class InvalidSpecificationsTestCase {
+
+		@ParameterizedTest
+		@ValueSource(strings = { "size=abc", "size=1, seed=x", "seed=1", "size=1, color=red", "size=1,", " * 2",
+				"0xABC * 2", "size=4GiB", "0x0102 * 1G" })
+		void test(@SuppressWarnings("unused") @Payload byte[] bytes) {
+			// never called
+		}
+
+	}
+
+	@Test
+	void should_fail_with_unsupported_values() {
+		executeTestsForClass(UnsupportedValuesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(3).failed(3))
+			.assertThatEvents()
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(ParameterResolutionException.class),
+							cause(instanceOf(NullPointerException.class), message("'null' is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Source type java.lang.Integer is not supported"))))
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(ArgumentConversionException.class),
+							message("Target type java.lang.String is not supported"))));
+	}
+
+	static class UnsupportedValuesTestCase {
+
+		@ParameterizedTest
+		@NullSource
+		@SuppressWarnings("unused")
+		void null_source(@Payload byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = 1)
+		@SuppressWarnings("unused")
+		void integer_source(@Payload byte[] bytes) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = "size=1")
+		@SuppressWarnings("unused")
+		void string_target(@Payload String value) {
+			// never called
+		}
+
+	}
+
+}
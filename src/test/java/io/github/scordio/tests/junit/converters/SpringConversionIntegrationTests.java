@@ -16,12 +16,15 @@
 package io.github.scordio.tests.junit.converters;
 
 import io.github.scordio.junit.converters.SpringConversion;
+import io.github.scordio.junit.converters.SpringConversion.ConversionServiceFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.FieldSource;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.format.annotation.DurationFormat;
 import org.springframework.format.annotation.NumberFormat;
 
@@ -38,6 +41,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static io.github.scordio.junit.converters.SpringConversion.Service.DEFAULT;
+import static io.github.scordio.junit.converters.SpringConversion.Service.FORMATTING;
 import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -106,6 +111,34 @@ class SpringConversionIntegrationTests {
 					cause(instanceOf(ConverterNotFoundException.class))));
 	}
 
+	@Test
+	void should_convert_supported_values_with_the_configured_conversion_service() {
+		executeTestsForClass(ConversionServiceTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(4));
+	}
+
+	@Test
+	void should_fail_with_format_annotations_if_the_default_conversion_service_is_configured() {
+		executeTestsForClass(DefaultConversionServiceTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(1).failed(1))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class),
+					cause(instanceOf(ConversionFailedException.class))));
+	}
+
+	@Test
+	void should_fail_with_formatting_conversion_service_if_org_springframework_format_is_not_in_the_classpath() {
+		executeTestsForClass(ConversionServiceTestCase.class, new FilteringClassLoader(SPRING_FORMAT_PACKAGE))
+			.testEvents()
+			.assertStatistics(stats -> stats.started(4).succeeded(3).failed(1))
+			.assertThatEvents()
+			.haveExactly(1, finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), cause( //
+							instanceOf(NoClassDefFoundError.class),
+							message("org/springframework/format/support/DefaultFormattingConversionService"))));
+	}
+
 	static class SpringCoreTestCase {
 
 		@ParameterizedTest
@@ -212,6 +245,67 @@ class SpringConversionIntegrationTests {
 
 	}
 
+	static class ConversionServiceTestCase {
+
+		@ParameterizedTest
+		@FieldSource("String_to_List")
+		void with_default_service(@SpringConversion(service = DEFAULT) List<Integer> list, List<Integer> expected) {
+			assertThat(list).isEqualTo(expected);
+		}
+
+		@ParameterizedTest
+		@FieldSource("String_to_List")
+		void with_formatting_service(@SpringConversion(service = FORMATTING) List<Integer> list,
+				List<Integer> expected) {
+			assertThat(list).isEqualTo(expected);
+		}
+
+		static List<?> String_to_List = List.of(arguments("123, 456", List.of(123, 456)));
+
+		@ParameterizedTest
+		@FieldSource
+		void with_factory(@SpringConversion(factory = ReversingConversionServiceFactory.class) String value,
+				String expected) {
+			assertThat(value).isEqualTo(expected);
+		}
+
+		static List<?> with_factory = List.of(arguments(123, "321"));
+
+		@ParameterizedTest
+		@FieldSource("with_factory")
+		void with_factory_taking_precedence_over_service(
+				@SpringConversion(service = DEFAULT, factory = ReversingConversionServiceFactory.class) String value,
+				String expected) {
+			assertThat(value).isEqualTo(expected);
+		}
+
+	}
+
+	static class DefaultConversionServiceTestCase {
+
+		@ParameterizedTest
+		@FieldSource
+		void String_to_Double(@SpringConversion(service = DEFAULT) @NumberFormat(style = PERCENT) double value,
+				double expected) {
+			assertThat(value).isEqualTo(expected);
+		}
+
+		static List<?> String_to_Double = List.of(arguments("42%", 0.42));
+
+	}
+
+	static class ReversingConversionServiceFactory implements ConversionServiceFactory {
+
+		@Override
+		public ConversionService createConversionService() {
+			GenericConversionService conversionService = new GenericConversionService();
+			conversionService.addConverter(Integer.class, String.class,
+					source -> new StringBuilder(source.toString()).reverse().toString());
+			return conversionService;
+		}
+
+	}
+
 	private static class FilteringClassLoader extends URLClassLoader {
 
 		private static final Set<String> TARGET_PACKAGES;
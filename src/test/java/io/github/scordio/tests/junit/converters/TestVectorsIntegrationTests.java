@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2025-present Stefano Cordio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.scordio.tests.junit.converters;
+
+import static io.github.scordio.tests.junit.converters.JupiterEngineTestKit.executeTestsForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.testkit.engine.EventConditions.displayName;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.started;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import io.github.scordio.junit.converters.Base64Source;
+import io.github.scordio.junit.converters.HexSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+class TestVectorsIntegrationTests {
+
+	@Test
+	void should_provide_records() {
+		executeTestsForClass(RecordsTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(7).succeeded(7));
+	}
+
+	static class RecordsTestCase {
+
+		@ParameterizedTest
+		@HexSource(value = "vectors/aes-ecb-gfsbox-128.rsp", fields = { "KEY", "PLAINTEXT", "CIPHERTEXT" })
+		void test(byte[] key, byte[] plaintext, byte[] ciphertext) throws GeneralSecurityException {
+			Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+			assertThat(cipher.doFinal(plaintext)).isEqualTo(ciphertext);
+		}
+
+		@ParameterizedTest
+		@HexSource(value = "/vectors/aes-ecb-gfsbox-128.rsp", fields = { "CIPHERTEXT", "PLAINTEXT", "KEY" },
+				section = "DECRYPT")
+		void with_section(byte[] ciphertext, byte[] plaintext, byte[] key) throws GeneralSecurityException {
+			Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"));
+			assertThat(cipher.doFinal(ciphertext)).isEqualTo(plaintext);
+		}
+
+	}
+
+	@Test
+	void should_provide_lines() {
+		executeTestsForClass(LinesTestCase.class).testEvents()
+			.assertStatistics(stats -> stats.started(7).succeeded(7))
+			.assertThatEvents()
+			.filteredOn(started())
+			.haveExactly(2, test(displayName(
+					"[1] message=616263 (3 bytes), digest=ba7816bf8f01cfea414140de5dae2223\u2026 (32 bytes, CRC-32 f57613f2)")))
+			.haveExactly(2, test(displayName(
+					"[2] message=54686520717569636b2062726f776e20\u2026 (43 bytes, CRC-32 414fa339), digest=d7a8fbb307d7809469ca9abcb0082e4f\u2026 (32 bytes, CRC-32 d8818592)")))
+			.haveExactly(1, test(displayName("[2] bytes=0a (1 byte), reversed=0a (1 byte)")));
+	}
+
+	static class LinesTestCase {
+
+		@ParameterizedTest
+		@Base64Source("vectors/sha-256.txt")
+		void test(byte[] message, byte[] digest) throws GeneralSecurityException {
+			assertThat(MessageDigest.getInstance("SHA-256").digest(message)).isEqualTo(digest);
+		}
+
+		@ParameterizedTest
+		@Base64Source("src/test/resources/vectors/sha-256.txt")
+		void with_file_path(byte[] message, byte[] digest) throws GeneralSecurityException {
+			assertThat(MessageDigest.getInstance("SHA-256").digest(message)).isEqualTo(digest);
+		}
+
+		@ParameterizedTest
+		@HexSource("vectors/reversed.txt")
+		void with_hex(byte[] bytes, byte[] reversed) {
+			assertThat(bytes).hasSameSizeAs(reversed);
+			for (int i = 0; i < bytes.length; i++) {
+				assertThat(bytes[i]).isEqualTo(reversed[reversed.length - 1 - i]);
+			}
+		}
+
+	}
+
+	@Test
+	void should_fail_with_invalid_files() {
+		EngineExecutionResults results = executeTestsForClass(InvalidFilesTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+		results.containerEvents()
+			.assertStatistics(stats -> stats.failed(3))
+			.assertThatEvents()
+			.haveExactly(1,
+					finishedWithFailure(instanceOf(IllegalArgumentException.class), message(
+							"Missing field 'CIPHERTEXT' in the record starting at line 4 of [vectors/invalid.rsp]")))
+			.haveExactly(1, finishedWithFailure(instanceOf(IllegalArgumentException.class), message(
+					"Invalid field 'KEY' at line 8 of [vectors/invalid.rsp]: Invalid hex character at position 31")))
+			.haveExactly(1, finishedWithFailure(instanceOf(IllegalArgumentException.class),
+					message("Classpath resource or file [vectors/missing.rsp] does not exist")));
+	}
+
+	static class InvalidFilesTestCase {
+
+		@ParameterizedTest
+		@HexSource(value = "vectors/invalid.rsp", fields = { "KEY", "PLAINTEXT", "CIPHERTEXT" })
+		void missing_field(byte[] key, byte[] plaintext, byte[] ciphertext) {
+			// never called
+		}
+
+		@ParameterizedTest
+		@HexSource(value = "vectors/invalid.rsp", fields = { "KEY", "PLAINTEXT" })
+		void invalid_value(byte[] key, byte[] plaintext) {
+			// called once, before the invalid record
+		}
+
+		@ParameterizedTest
+		@HexSource("vectors/missing.rsp")
+		void missing_file(byte[] bytes) {
+			// never called
+		}
+
+	}
+
+}
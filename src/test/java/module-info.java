@@ -17,6 +17,8 @@
 open module io.github.scordio.tests.junit.converters {
 
 	requires io.github.scordio.junit.converters;
+	requires jdk.jfr;
+	requires jdk.management;
 	requires org.assertj.core;
 	requires org.junit.jupiter.params;
 	requires org.junit.platform.testkit;